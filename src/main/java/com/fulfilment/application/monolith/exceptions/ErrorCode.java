@@ -14,6 +14,15 @@ public enum ErrorCode {
     BUSINESSUNITCODENOTMATCH,
     WAREHOUSEPREVIOUSLYARCHIVED,
     INSUFFICIENTWAREHOUSECAPACITY,
-    WAREHOUSESTOCKMISMATCH
+    WAREHOUSESTOCKMISMATCH,
+    CONCURRENTMODIFICATION,
+    INVALIDSTOCKTRANSFER,
+    INSUFFICIENTWAREHOUSESTOCK,
+    TRANSFEREXCEEDSWAREHOUSECAPACITY,
+
+    FULFILMENTALREADYEXIST,
+    MAXWAREHOUSESPERPRODUCTREACHED,
+    MAXWAREHOUSESPERSTOREREACHED,
+    MAXPRODUCTSPERWAREHOUSEREACHED
 
 }
@@ -9,6 +9,7 @@ public enum ErrorRule {
     // 400
     MISSING_FIELD(Response.Status.BAD_REQUEST, "Required field is missing or empty", ErrorCode.FIELDISREQUIRED),
     MISSING_BODY(Response.Status.BAD_REQUEST, "Request body is not provided", ErrorCode.BODYMISSING),
+    INVALID_STOCK_TRANSFER(Response.Status.BAD_REQUEST, "A stock transfer needs a positive quantity and two different warehouses", ErrorCode.INVALIDSTOCKTRANSFER),
 
     // 404
     WAREHOUSE_NOT_LOCATED(Response.Status.NOT_FOUND, "No warehouse found with the given BusinessUnitCode", ErrorCode.WAREHOUSENOTFOUND),
@@ -16,12 +17,20 @@ public enum ErrorRule {
 
     // 422
 
+    BUSINESS_UNIT_CODE_TAKEN(Response.Status.CONFLICT, "A warehouse with the given BusinessUnitCode already exists", ErrorCode.WAREHOUSEALREADYEXIST),
     MAX_WAREHOUSES_LIMIT_REACHED(Response.Status.CONFLICT, "The maximum number of allowable warehouses has been reached", ErrorCode.MAXWAREHOUSENUMBERREACHED),
     BUSINESS_UNIT_CODE_MISMATCH(Response.Status.CONFLICT, "The provided BusinessUnitCode does not match the expected value", ErrorCode.BUSINESSUNITCODENOTMATCH),
     LOCATION_CAPACITY_EXCEEDED(Response.Status.CONFLICT, "The warehouse at the specified location has exceeded its maximum capacity", ErrorCode.WAREHOUSELOCATIONEXCEEDEDMAXCAPACITY),
     WAREHOUSE_PREVIOUSLY_ARCHIVED(Response.Status.CONFLICT, "The warehouse associated with the provided BusinessUnitCode has been archived earlier", ErrorCode.WAREHOUSEPREVIOUSLYARCHIVED),
     INSUFFICIENT_WAREHOUSE_CAPACITY(Response.Status.CONFLICT, "The capacity of the new warehouse is insufficient to store the stock from the previous warehouse", ErrorCode.INSUFFICIENTWAREHOUSECAPACITY),
-    WAREHOUSE_STOCK_MISMATCH(Response.Status.CONFLICT, "The inventory in the new warehouse does not align with the stock in the previous warehouse", ErrorCode.WAREHOUSESTOCKMISMATCH);
+    WAREHOUSE_STOCK_MISMATCH(Response.Status.CONFLICT, "The inventory in the new warehouse does not align with the stock in the previous warehouse", ErrorCode.WAREHOUSESTOCKMISMATCH),
+    INSUFFICIENT_WAREHOUSE_STOCK(Response.Status.CONFLICT, "The source warehouse does not hold enough stock for the transfer", ErrorCode.INSUFFICIENTWAREHOUSESTOCK),
+    TRANSFER_EXCEEDS_WAREHOUSE_CAPACITY(Response.Status.CONFLICT, "The transferred stock does not fit in the capacity of the target warehouse", ErrorCode.TRANSFEREXCEEDSWAREHOUSECAPACITY),
+    CONCURRENT_MODIFICATION(Response.Status.CONFLICT, "The warehouse was changed by another request at the same time, please retry", ErrorCode.CONCURRENTMODIFICATION),
+    FULFILMENT_ALREADY_ASSIGNED(Response.Status.CONFLICT, "The warehouse already fulfils this product for this store", ErrorCode.FULFILMENTALREADYEXIST),
+    MAX_WAREHOUSES_PER_PRODUCT_REACHED(Response.Status.CONFLICT, "The product is already fulfilled by the maximum number of warehouses for this store", ErrorCode.MAXWAREHOUSESPERPRODUCTREACHED),
+    MAX_WAREHOUSES_PER_STORE_REACHED(Response.Status.CONFLICT, "The store is already fulfilled by the maximum number of warehouses", ErrorCode.MAXWAREHOUSESPERSTOREREACHED),
+    MAX_PRODUCTS_PER_WAREHOUSE_REACHED(Response.Status.CONFLICT, "The warehouse already stores the maximum number of product types", ErrorCode.MAXPRODUCTSPERWAREHOUSEREACHED);
 
 
 
@@ -2,6 +2,10 @@ package com.fulfilment.application.monolith.exceptions;
 
 import lombok.Getter;
 
+/**
+ * A request rejected by a business rule. Rejections are ordinary outcomes rather than bugs, so the
+ * exception skips stack trace capture; see {@code WarehouseExceptionMapper} for how it is answered.
+ */
 @Getter
 public class WarehouseException extends RuntimeException {
     private final ErrorRule errorRule;
@@ -15,4 +19,9 @@ public class WarehouseException extends RuntimeException {
         super(message);
         this.errorRule = errorRule;
     }
-}
\ No newline at end of file
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,26 @@
+package com.fulfilment.application.monolith.execution;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking request work (JDBC, file I/O) in its own transaction on the virtual-thread executor.
+ * With {@code quarkus.virtual-threads.enabled=false}, or on a JDK without virtual threads, that
+ * executor is the regular worker pool, so resources using this behave as plain blocking ones.
+ *
+ * <p>{@code @RunOnVirtualThread} would do the same, but Quarkus refuses to build it on Java 17.
+ */
+@ApplicationScoped
+public class BlockingWork {
+
+  @Inject @VirtualThreads ExecutorService executor;
+
+  public <T> Uni<T> inTransaction(Supplier<T> work) {
+    return Uni.createFrom().item(() -> QuarkusTransaction.requiringNew().call(work::get)).runSubscriptionOn(executor);
+  }
+}
@@ -0,0 +1,37 @@
+package com.fulfilment.application.monolith.fulfilment;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/** A warehouse fulfilling one product for one store. */
+@Entity
+@Table(
+    name = "fulfilment_assignment",
+    uniqueConstraints = @UniqueConstraint(name = "uq_fulfilment_assignment", columnNames = {"storeId", "productId", "warehouseId"}),
+    indexes = @Index(name = "ix_fulfilment_assignment_warehouse_id", columnList = "warehouseId"))
+public class FulfilmentAssignment {
+
+  @Id @GeneratedValue public Long id;
+
+  @Column(nullable = false)
+  public Long storeId;
+
+  @Column(nullable = false)
+  public Long productId;
+
+  @Column(nullable = false)
+  public Long warehouseId;
+
+  public FulfilmentAssignment() {}
+
+  public FulfilmentAssignment(Long storeId, Long productId, Long warehouseId) {
+    this.storeId = storeId;
+    this.productId = productId;
+    this.warehouseId = warehouseId;
+  }
+}
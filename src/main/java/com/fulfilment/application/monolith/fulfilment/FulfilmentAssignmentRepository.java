@@ -0,0 +1,21 @@
+package com.fulfilment.application.monolith.fulfilment;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+@ApplicationScoped
+public class FulfilmentAssignmentRepository implements PanacheRepository<FulfilmentAssignment> {
+
+  @Inject FulfilmentConstraintIndex constraintIndex;
+
+  void onStart(@Observes StartupEvent event) {
+    QuarkusTransaction.requiringNew().run(() -> {
+      constraintIndex.clear();
+      streamAll().forEach(assignment -> constraintIndex.load(assignment.storeId, assignment.productId, assignment.warehouseId));
+    });
+  }
+}
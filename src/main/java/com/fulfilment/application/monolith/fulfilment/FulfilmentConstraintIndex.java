@@ -0,0 +1,143 @@
+package com.fulfilment.application.monolith.fulfilment;
+
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.FULFILMENT_ALREADY_ASSIGNED;
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.MAX_PRODUCTS_PER_WAREHOUSE_REACHED;
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.MAX_WAREHOUSES_PER_PRODUCT_REACHED;
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.MAX_WAREHOUSES_PER_STORE_REACHED;
+
+/**
+ * In-memory counters behind the fulfilment constraints, so an assignment is checked without any
+ * COUNT query. Each store and each warehouse has its own lock; an assignment takes its store lock,
+ * then its warehouse lock, so requests for different stores and warehouses never wait on each other
+ * and the fixed order rules out deadlocks.
+ *
+ * <p>{@link #reserve} takes effect immediately and is undone if the surrounding transaction rolls
+ * back; {@link #release} only takes effect once the transaction commits.
+ */
+@ApplicationScoped
+public class FulfilmentConstraintIndex {
+
+  static final int MAX_WAREHOUSES_PER_PRODUCT_PER_STORE = 2;
+  static final int MAX_WAREHOUSES_PER_STORE = 3;
+  static final int MAX_PRODUCTS_PER_WAREHOUSE = 5;
+
+  private final ConcurrentMap<Long, StoreFulfilment> stores = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, WarehouseFulfilment> warehouses = new ConcurrentHashMap<>();
+
+  @Inject TransactionSynchronizationRegistry transactionRegistry;
+
+  /** Checks the three constraints and records the assignment, or throws the violated rule. */
+  public void reserve(long storeId, long productId, long warehouseId) {
+    StoreFulfilment store = stores.computeIfAbsent(storeId, id -> new StoreFulfilment());
+    WarehouseFulfilment warehouse = warehouses.computeIfAbsent(warehouseId, id -> new WarehouseFulfilment());
+
+    synchronized (store) {
+      synchronized (warehouse) {
+        Set<Long> productWarehouses = store.warehousesByProduct.getOrDefault(productId, Set.of());
+        if (productWarehouses.contains(warehouseId)) {
+          throw new WarehouseException(FULFILMENT_ALREADY_ASSIGNED);
+        }
+        if (productWarehouses.size() >= MAX_WAREHOUSES_PER_PRODUCT_PER_STORE) {
+          throw new WarehouseException(MAX_WAREHOUSES_PER_PRODUCT_REACHED);
+        }
+        if (!store.assignmentsByWarehouse.containsKey(warehouseId) && store.assignmentsByWarehouse.size() >= MAX_WAREHOUSES_PER_STORE) {
+          throw new WarehouseException(MAX_WAREHOUSES_PER_STORE_REACHED);
+        }
+        if (!warehouse.assignmentsByProduct.containsKey(productId) && warehouse.assignmentsByProduct.size() >= MAX_PRODUCTS_PER_WAREHOUSE) {
+          throw new WarehouseException(MAX_PRODUCTS_PER_WAREHOUSE_REACHED);
+        }
+        add(store, warehouse, productId, warehouseId);
+      }
+    }
+    onCompletion(Status.STATUS_ROLLEDBACK, () -> remove(storeId, productId, warehouseId));
+  }
+
+  public void release(long storeId, long productId, long warehouseId) {
+    onCompletion(Status.STATUS_COMMITTED, () -> remove(storeId, productId, warehouseId));
+  }
+
+  /** Records an already persisted assignment without checking the constraints. */
+  void load(long storeId, long productId, long warehouseId) {
+    StoreFulfilment store = stores.computeIfAbsent(storeId, id -> new StoreFulfilment());
+    WarehouseFulfilment warehouse = warehouses.computeIfAbsent(warehouseId, id -> new WarehouseFulfilment());
+    synchronized (store) {
+      synchronized (warehouse) {
+        add(store, warehouse, productId, warehouseId);
+      }
+    }
+  }
+
+  void clear() {
+    stores.clear();
+    warehouses.clear();
+  }
+
+  private static void add(StoreFulfilment store, WarehouseFulfilment warehouse, long productId, long warehouseId) {
+    store.warehousesByProduct.computeIfAbsent(productId, id -> new HashSet<>()).add(warehouseId);
+    store.assignmentsByWarehouse.merge(warehouseId, 1, Integer::sum);
+    warehouse.assignmentsByProduct.merge(productId, 1, Integer::sum);
+  }
+
+  private void remove(long storeId, long productId, long warehouseId) {
+    StoreFulfilment store = stores.get(storeId);
+    WarehouseFulfilment warehouse = warehouses.get(warehouseId);
+    if (store == null || warehouse == null) {
+      return;
+    }
+    synchronized (store) {
+      synchronized (warehouse) {
+        Set<Long> productWarehouses = store.warehousesByProduct.get(productId);
+        if (productWarehouses == null || !productWarehouses.remove(warehouseId)) {
+          return;
+        }
+        if (productWarehouses.isEmpty()) {
+          store.warehousesByProduct.remove(productId);
+        }
+        store.assignmentsByWarehouse.computeIfPresent(warehouseId, (id, count) -> count == 1 ? null : count - 1);
+        warehouse.assignmentsByProduct.computeIfPresent(productId, (id, count) -> count == 1 ? null : count - 1);
+      }
+    }
+  }
+
+  private void onCompletion(int status, Runnable change) {
+    if (transactionRegistry != null && transactionRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+      transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+        @Override
+        public void beforeCompletion() {}
+
+        @Override
+        public void afterCompletion(int completionStatus) {
+          if (completionStatus == status) {
+            change.run();
+          }
+        }
+      });
+    } else if (status == Status.STATUS_COMMITTED) {
+      change.run();
+    }
+  }
+
+  // guarded by its own monitor
+  private static final class StoreFulfilment {
+    private final Map<Long, Set<Long>> warehousesByProduct = new HashMap<>();
+    private final Map<Long, Integer> assignmentsByWarehouse = new HashMap<>();
+  }
+
+  // guarded by its own monitor
+  private static final class WarehouseFulfilment {
+    private final Map<Long, Integer> assignmentsByProduct = new HashMap<>();
+  }
+}
@@ -0,0 +1,112 @@
+package com.fulfilment.application.monolith.fulfilment;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.products.ProductRepository;
+import com.fulfilment.application.monolith.stores.Store;
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseHistoryRepository;
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseRepository;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+@Path("fulfilment")
+@ApplicationScoped
+@Produces("application/json")
+@Consumes("application/json")
+public class FulfilmentResource {
+
+  @Inject FulfilmentAssignmentRepository fulfilmentAssignmentRepository;
+  @Inject FulfilmentConstraintIndex constraintIndex;
+  @Inject ProductRepository productRepository;
+  @Inject WarehouseRepository warehouseRepository;
+  @Inject WarehouseHistoryRepository warehouseHistoryRepository;
+
+  @GET
+  @Operation(summary = "List fulfilment assignments", description = "Lists which warehouses fulfil which products for which stores, optionally for one store only.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Assignments ordered by id",
+                  content = @Content(mediaType = "application/json", schema = @Schema(implementation = FulfilmentAssignment.class)))
+  })
+  public List<FulfilmentAssignment> get(
+          @Parameter(description = "Only list the assignments of this store") @QueryParam("storeId") Long storeId) {
+    if (storeId == null) {
+      return fulfilmentAssignmentRepository.listAll(Sort.by("id"));
+    }
+    return fulfilmentAssignmentRepository.list("storeId", Sort.by("id"), storeId);
+  }
+
+  @POST
+  @Transactional
+  @Operation(summary = "Assign a warehouse to fulfil a product for a store",
+          description = "A product can be fulfilled by at most 2 warehouses per store, a store by at most 3 warehouses, and a warehouse can hold at most 5 product types.")
+  @APIResponses({
+          @APIResponse(responseCode = "201", description = "Assignment created",
+                  content = @Content(mediaType = "application/json", schema = @Schema(implementation = FulfilmentAssignment.class))),
+          @APIResponse(responseCode = "404", description = "Store, product or warehouse not found"),
+          @APIResponse(responseCode = "409", description = "The warehouse is archived, or the assignment exists already or would break one of the limits"),
+          @APIResponse(responseCode = "422", description = "Invalid input")
+  })
+  public Response create(
+          @Parameter(description = "Store, product and warehouse ids to associate", required = true) FulfilmentAssignment assignment) {
+    if (assignment.id != null) {
+      throw new WebApplicationException("ID should not be included in the request.", 422);
+    }
+    if (assignment.storeId == null || assignment.productId == null || assignment.warehouseId == null) {
+      throw new WebApplicationException("storeId, productId and warehouseId must be set on the request.", 422);
+    }
+    if (Store.findById(assignment.storeId) == null) {
+      throw new WebApplicationException("Store with id " + assignment.storeId + " does not exist.", 404);
+    }
+    if (productRepository.findById(assignment.productId) == null) {
+      throw new WebApplicationException("Product with id " + assignment.productId + " does not exist.", 404);
+    }
+    if (warehouseRepository.findByIdOptional(assignment.warehouseId).isEmpty()) {
+      // archived units move to the history table, keeping their id
+      if (warehouseHistoryRepository.findById(assignment.warehouseId) != null) {
+        throw new WarehouseException(ErrorRule.WAREHOUSE_PREVIOUSLY_ARCHIVED, "Warehouse with id " + assignment.warehouseId + " is archived.");
+      }
+      throw new WebApplicationException("Warehouse with id " + assignment.warehouseId + " does not exist.", 404);
+    }
+
+    constraintIndex.reserve(assignment.storeId, assignment.productId, assignment.warehouseId);
+    fulfilmentAssignmentRepository.persist(assignment);
+    return Response.ok(assignment).status(201).build();
+  }
+
+  @DELETE
+  @Path("{id}")
+  @Transactional
+  @Operation(summary = "Remove a fulfilment assignment", description = "Stops the warehouse from fulfilling the product for the store.")
+  @APIResponses({
+          @APIResponse(responseCode = "204", description = "Assignment removed"),
+          @APIResponse(responseCode = "404", description = "Assignment not found")
+  })
+  public Response delete(
+          @Parameter(description = "Id of the assignment to remove", required = true) Long id) {
+    FulfilmentAssignment entity = fulfilmentAssignmentRepository.findById(id);
+    if (entity == null) {
+      throw new WebApplicationException("Fulfilment assignment with id " + id + " does not exist.", 404);
+    }
+    fulfilmentAssignmentRepository.delete(entity);
+    constraintIndex.release(entity.storeId, entity.productId, entity.warehouseId);
+    return Response.status(204).build();
+  }
+}
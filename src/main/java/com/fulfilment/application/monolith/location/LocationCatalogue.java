@@ -0,0 +1,77 @@
+package com.fulfilment.application.monolith.location;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, hash-indexed set of known locations. A catalogue is never modified after it is built;
+ * {@link LocationGateway} replaces it as a whole when the source is reloaded.
+ */
+public final class LocationCatalogue {
+
+  private final Map<String, Location> byIdentifier;
+
+  private LocationCatalogue(Map<String, Location> byIdentifier) {
+    this.byIdentifier = Map.copyOf(byIdentifier);
+  }
+
+  public static LocationCatalogue of(Collection<Location> locations) {
+    Map<String, Location> index = new HashMap<>();
+    for (Location location : locations) {
+      if (index.putIfAbsent(location.getIdentification(), location) != null) {
+        throw new IllegalArgumentException("Duplicate location identifier " + location.getIdentification());
+      }
+    }
+    return new LocationCatalogue(index);
+  }
+
+  /**
+   * Reads a catalogue from a text file with one {@code identifier,maxNumberOfWarehouses,maxCapacity}
+   * entry per line. Blank lines and lines starting with {@code #} are skipped.
+   */
+  public static LocationCatalogue load(Path file) {
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read location catalogue " + file, e);
+    }
+
+    List<Location> locations = new ArrayList<>(lines.size());
+    for (int i = 0; i < lines.size(); i++) {
+      String line = lines.get(i).trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      String[] columns = line.split(",");
+      if (columns.length != 3) {
+        throw new IllegalArgumentException("Malformed location entry at " + file + ":" + (i + 1));
+      }
+      locations.add(new Location(
+          columns[0].trim(), Integer.parseInt(columns[1].trim()), Integer.parseInt(columns[2].trim())));
+    }
+    return of(locations);
+  }
+
+  /** Returns the location with the given identifier, or {@code null} when it is not catalogued. */
+  public Location get(String identifier) {
+    return identifier == null ? null : byIdentifier.get(identifier);
+  }
+
+  public Collection<Location> locations() {
+    return byIdentifier.values();
+  }
+
+  public int size() {
+    return byIdentifier.size();
+  }
+}
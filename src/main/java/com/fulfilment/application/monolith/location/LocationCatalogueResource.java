@@ -0,0 +1,31 @@
+package com.fulfilment.application.monolith.location;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+import java.util.Map;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+@Path("location/catalogue")
+@ApplicationScoped
+@Produces("application/json")
+public class LocationCatalogueResource {
+
+  @Inject LocationGateway locationGateway;
+
+  @POST
+  @Path("reload")
+  @Operation(summary = "Reload the location catalogue", description = "Re-reads the configured location catalogue file and atomically replaces the active catalogue.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Catalogue reloaded"),
+          @APIResponse(responseCode = "500", description = "The catalogue file could not be read; the previous catalogue is kept")
+  })
+  public Response reload() {
+    return Response.ok(Map.of("locations", locationGateway.reload())).build();
+  }
+}
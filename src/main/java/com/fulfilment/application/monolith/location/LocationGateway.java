@@ -2,30 +2,77 @@ package com.fulfilment.application.monolith.location;
 
 import com.fulfilment.application.monolith.warehouses.domain.models.Location;
 import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.ws.rs.WebApplicationException;
-
-import java.util.ArrayList;
+import jakarta.enterprise.event.Observes;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
 
 @ApplicationScoped
 public class LocationGateway implements LocationResolver {
 
-  private static final List<Location> locations = new ArrayList<>();
-
-  static {
-    locations.add(new Location("ZWOLLE-001", 1, 40));
-    locations.add(new Location("ZWOLLE-002", 2, 50));
-    locations.add(new Location("AMSTERDAM-001", 5, 100));
-    locations.add(new Location("AMSTERDAM-002", 3, 75));
-    locations.add(new Location("TILBURG-001", 1, 40));
-    locations.add(new Location("HELMOND-001", 1, 45));
-    locations.add(new Location("EINDHOVEN-001", 2, 70));
-    locations.add(new Location("VETSBY-001", 1, 90));
+  private static final Logger LOGGER = Logger.getLogger(LocationGateway.class.getName());
+
+  private static final LocationCatalogue DEFAULT_CATALOGUE = LocationCatalogue.of(List.of(
+      new Location("ZWOLLE-001", 1, 40),
+      new Location("ZWOLLE-002", 2, 50),
+      new Location("AMSTERDAM-001", 5, 100),
+      new Location("AMSTERDAM-002", 3, 75),
+      new Location("TILBURG-001", 1, 40),
+      new Location("HELMOND-001", 1, 45),
+      new Location("EINDHOVEN-001", 2, 70),
+      new Location("VETSBY-001", 1, 90)));
+
+  // Readers only ever dereference this field, writers swap in a fully built catalogue.
+  private volatile LocationCatalogue catalogue = DEFAULT_CATALOGUE;
+
+  @ConfigProperty(name = "warehouse.location.catalogue-file")
+  Optional<String> catalogueFile = Optional.empty();
+
+  void onStart(@Observes StartupEvent event) {
+    if (catalogueFile.isPresent()) {
+      reload();
+    }
   }
 
   @Override
   public Location resolveByIdentifier(String identifier) {
-    return locations.stream().filter(location -> location.getIdentification().equals(identifier)).findFirst().orElseThrow(() -> new WebApplicationException("Location with the identifier " + identifier + " not found", 404));
+    Location location = catalogue.get(identifier);
+    if (location == null) {
+      throw new LocationNotFoundException(identifier);
+    }
+    return location;
+  }
+
+  @Override
+  public Location findByIdentifier(String identifier) {
+    return catalogue.get(identifier);
+  }
+
+  /** All locations of the current catalogue. */
+  public Collection<Location> allLocations() {
+    return catalogue.locations();
+  }
+
+  /**
+   * Re-reads the configured catalogue file and swaps it in. The current catalogue stays in place
+   * when the file cannot be read or parsed.
+   */
+  public int reload() {
+    if (catalogueFile.isEmpty()) {
+      return catalogue.size();
+    }
+    LocationCatalogue loaded = LocationCatalogue.load(Path.of(catalogueFile.get()));
+    replaceCatalogue(loaded);
+    LOGGER.infov("Loaded {0} locations from {1}", loaded.size(), catalogueFile.get());
+    return loaded.size();
+  }
+
+  public void replaceCatalogue(LocationCatalogue catalogue) {
+    this.catalogue = catalogue;
   }
 }
@@ -0,0 +1,19 @@
+package com.fulfilment.application.monolith.location;
+
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Raised for unknown location identifiers. An unknown location is an ordinary client error, so the
+ * exception skips stack trace capture.
+ */
+public class LocationNotFoundException extends WebApplicationException {
+
+  public LocationNotFoundException(String identifier) {
+    super("Location with the identifier " + identifier + " not found", 404);
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
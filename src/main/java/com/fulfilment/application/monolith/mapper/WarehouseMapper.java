@@ -2,10 +2,18 @@ package com.fulfilment.application.monolith.mapper;
 import com.fulfilment.application.monolith.warehouses.adapters.database.DbWarehouse;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "cdi")
 public interface WarehouseMapper {
+    // the version belongs to the persistence context and never comes from the domain model
+    @Mapping(target = "version", ignore = true)
     DbWarehouse toEntity(Warehouse warehouse);
     Warehouse toModel(DbWarehouse warehouse);
     Warehouse toModel(com.warehouse.api.beans.Warehouse warehouse);
+    com.warehouse.api.beans.Warehouse toResponse(DbWarehouse warehouse);
+    // the domain model carries no database id, so responses mapped from it leave the id out
+    @Mapping(target = "id", ignore = true)
+    com.warehouse.api.beans.Warehouse toResponse(Warehouse warehouse);
+    com.warehouse.api.beans.WarehouseHistoryEntry toHistoryEntry(DbWarehouse warehouse);
 }
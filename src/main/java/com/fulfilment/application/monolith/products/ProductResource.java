@@ -2,10 +2,11 @@ package com.fulfilment.application.monolith.products;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.quarkus.panache.common.Sort;
+import com.fulfilment.application.monolith.execution.BlockingWork;
+import com.fulfilment.application.monolith.stores.StockMovement;
+import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -13,6 +14,7 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
@@ -27,69 +29,111 @@ import org.jboss.logging.Logger;
 public class ProductResource {
 
   @Inject ProductRepository productRepository;
+  @Inject BlockingWork blockingWork;
+  @Inject ProductStockCounter stockCounter;
 
   private static final Logger LOGGER = Logger.getLogger(ProductResource.class.getName());
 
+  // the database work runs through BlockingWork: on virtual threads when they are enabled
   @GET
-  public List<Product> get() {
-    return productRepository.listAll(Sort.by("name"));
+  public Uni<List<Product>> get() {
+    return blockingWork.inTransaction(productRepository::listAllByName);
   }
 
   @GET
   @Path("{id}")
-  public Product getSingle(Long id) {
-    Product entity = productRepository.findById(id);
-    if (entity == null) {
-      throw new WebApplicationException("Product with id of " + id + " does not exist.", 404);
-    }
-    return entity;
+  public Uni<Product> getSingle(Long id) {
+    return blockingWork.inTransaction(() -> {
+      Product entity = productRepository.findById(id);
+      if (entity == null) {
+        throw new WebApplicationException("Product with id of " + id + " does not exist.", 404);
+      }
+      return entity;
+    });
   }
 
   @POST
-  @Transactional
-  public Response create(Product product) {
+  public Uni<Response> create(Product product) {
     if (product.id != null) {
       throw new WebApplicationException("Id was invalidly set on request.", 422);
     }
 
-    productRepository.persist(product);
-    return Response.ok(product).status(201).build();
+    return blockingWork.inTransaction(() -> {
+      productRepository.persist(product);
+      return Response.ok(product).status(201).build();
+    });
   }
 
   @PUT
   @Path("{id}")
-  @Transactional
-  public Product update(Long id, Product product) {
+  public Uni<Product> update(Long id, Product product) {
     if (product.name == null) {
       throw new WebApplicationException("Product Name was not set on request.", 422);
     }
 
-    Product entity = productRepository.findById(id);
+    return blockingWork.inTransaction(() -> {
+      Product entity = productRepository.findById(id);
 
-    if (entity == null) {
-      throw new WebApplicationException("Product with id of " + id + " does not exist.", 404);
-    }
+      if (entity == null) {
+        throw new WebApplicationException("Product with id of " + id + " does not exist.", 404);
+      }
 
-    entity.name = product.name;
-    entity.description = product.description;
-    entity.price = product.price;
-    entity.stock = product.stock;
+      entity.name = product.name;
+      entity.description = product.description;
+      entity.price = product.price;
+      entity.stock = product.stock;
+      stockCounter.reset(id, product.stock);
 
-    productRepository.persist(entity);
+      productRepository.persist(entity);
 
-    return entity;
+      return entity;
+    });
   }
 
   @DELETE
   @Path("{id}")
-  @Transactional
-  public Response delete(Long id) {
-    Product entity = productRepository.findById(id);
-    if (entity == null) {
-      throw new WebApplicationException("Product with id of " + id + " does not exist.", 404);
+  public Uni<Response> delete(Long id) {
+    return blockingWork.inTransaction(() -> {
+      Product entity = productRepository.findById(id);
+      if (entity == null) {
+        throw new WebApplicationException("Product with id of " + id + " does not exist.", 404);
+      }
+      stockCounter.remove(id);
+      productRepository.delete(entity);
+      return Response.status(204).build();
+    });
+  }
+
+  @POST
+  @Path("{id}/stock")
+  public Uni<Response> moveStock(Long id, StockMovement movement) {
+    if (movement == null || movement.delta == null || movement.delta == 0) {
+      throw new WebApplicationException("A non-zero stock delta must be set on the request.", 422);
     }
-    productRepository.delete(entity);
-    return Response.status(204).build();
+
+    return blockingWork.inTransaction(() -> {
+      stockCounter.adjust(id, movement.delta);
+      return Response.status(204).build();
+    });
+  }
+
+  /**
+   * The stock of a product: summed over its shards with {@code exact=true}, otherwise the total last
+   * folded into the product, at most {@code product.stock.fold-interval} old.
+   */
+  @GET
+  @Path("{id}/stock")
+  public Uni<ProductStock> getStock(Long id, @QueryParam("exact") boolean exact) {
+    return blockingWork.inTransaction(() -> {
+      if (exact) {
+        return new ProductStock(id, stockCounter.exactTotal(id), true);
+      }
+      Product entity = productRepository.findById(id);
+      if (entity == null) {
+        throw new WebApplicationException("Product with id of " + id + " does not exist.", 404);
+      }
+      return new ProductStock(id, entity.stock, false);
+    });
   }
 
   @Provider
@@ -0,0 +1,19 @@
+package com.fulfilment.application.monolith.products;
+
+/** Stock total of a product; {@code exact} tells whether it was summed at read time or folded. */
+public class ProductStock {
+
+  public Long productId;
+
+  public long stock;
+
+  public boolean exact;
+
+  public ProductStock() {}
+
+  public ProductStock(Long productId, long stock, boolean exact) {
+    this.productId = productId;
+    this.stock = stock;
+    this.exact = exact;
+  }
+}
@@ -0,0 +1,163 @@
+package com.fulfilment.application.monolith.products;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import jakarta.ws.rs.WebApplicationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Striped stock counter for products. The first movement of a product spreads its stock over
+ * {@code product.stock.shards} {@link ProductStockShard} rows; from then on every movement is a
+ * single conditional update of one randomly picked shard, so concurrent movements of a hot product
+ * rarely wait for the same row lock.
+ *
+ * <p>An increment goes to any shard. A decrement tries the shards one after the other and only
+ * when none holds enough units on its own locks them all and takes the units from several. The
+ * exact total is the sum of the shards; {@link Product#stock} is refreshed from it every
+ * {@code product.stock.fold-interval} and serves as the cheap, bounded-staleness total.
+ *
+ * <p>Methods run in the caller's transaction.
+ */
+@ApplicationScoped
+public class ProductStockCounter {
+
+  @Inject ProductRepository productRepository;
+  @Inject ProductStockShardRepository shardRepository;
+
+  @ConfigProperty(name = "product.stock.shards", defaultValue = "8")
+  int shards = 8;
+
+  // products known to have their shards in place, so movements skip the check
+  private final Set<Long> sharded = ConcurrentHashMap.newKeySet();
+
+  public void adjust(Long productId, int delta) {
+    if (!sharded.contains(productId)) {
+      split(productId);
+    }
+    int first = ThreadLocalRandom.current().nextInt(shards);
+    if (delta > 0) {
+      if (shardRepository.add(productId, first, delta) == 0) {
+        // the shards were removed since: split again, or fail with a 404 if the product is gone
+        split(productId);
+        shardRepository.add(productId, first, delta);
+      }
+      return;
+    }
+    for (int i = 0; i < shards; i++) {
+      if (shardRepository.take(productId, (first + i) % shards, -delta) == 1) {
+        return;
+      }
+    }
+    takeFromSeveral(productId, -delta);
+  }
+
+  /** The sum of the shards, or the product's own stock while that is not sharded. */
+  public long exactTotal(Long productId) {
+    Long total = shardRepository.total(productId);
+    if (total != null) {
+      return total;
+    }
+    return findProduct(productId, LockModeType.NONE).stock;
+  }
+
+  /** Replaces the stock of a product, as an update of the whole product does. */
+  public void reset(Long productId, int stock) {
+    List<ProductStockShard> rows = shardRepository.listForUpdate(productId);
+    if (!rows.isEmpty()) {
+      distribute(stock, rows);
+    }
+  }
+
+  public void remove(Long productId) {
+    shardRepository.deleteByProduct(productId);
+    sharded.remove(productId);
+  }
+
+  /**
+   * Writes the summed shards back to {@link Product#stock} of the products whose total moved. Only
+   * those rows are locked and updated, through the entities, so the second-level cache evicts just
+   * them instead of a bulk update clearing the whole Product region every interval.
+   */
+  @Scheduled(every = "${product.stock.fold-interval:5s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+  @Transactional
+  void fold() {
+    List<Object[]> drifted = productRepository.getEntityManager()
+        .createQuery("select p.id, sum(s.stock) from Product p, ProductStockShard s where s.productId = p.id"
+            + " group by p.id, p.stock having sum(s.stock) <> p.stock", Object[].class)
+        .getResultList();
+    for (Object[] row : drifted) {
+      Product product = productRepository.findById((Long) row[0]);
+      if (product != null) {
+        product.stock = Math.toIntExact(((Number) row[1]).longValue());
+      }
+    }
+  }
+
+  void split(Long productId) {
+    // the product row lock keeps two nodes from splitting the same stock twice
+    Product product = findProduct(productId, LockModeType.PESSIMISTIC_WRITE);
+    List<ProductStockShard> rows = shardRepository.listByProduct(productId);
+    if (rows.size() < shards) {
+      boolean first = rows.isEmpty();
+      boolean[] present = new boolean[shards];
+      rows.forEach(row -> {
+        if (row.shard < shards) {
+          present[row.shard] = true;
+        }
+      });
+      List<ProductStockShard> added = new ArrayList<>();
+      for (int shard = 0; shard < shards; shard++) {
+        if (!present[shard]) {
+          added.add(new ProductStockShard(productId, shard, 0));
+        }
+      }
+      if (first) {
+        distribute(product.stock, added);
+      }
+      shardRepository.persist(added);
+    }
+    sharded.add(productId);
+  }
+
+  private void takeFromSeveral(Long productId, int units) {
+    List<ProductStockShard> rows = shardRepository.listForUpdate(productId);
+    if (rows.isEmpty()) {
+      split(productId);
+      rows = shardRepository.listForUpdate(productId);
+    }
+    long available = rows.stream().mapToLong(row -> row.stock).sum();
+    if (available < units) {
+      throw new WebApplicationException("Stock of product " + productId + " cannot drop below zero.", 409);
+    }
+    int remaining = units;
+    for (ProductStockShard row : rows) {
+      int taken = Math.min(row.stock, remaining);
+      row.stock -= taken;
+      remaining -= taken;
+    }
+  }
+
+  private static void distribute(int stock, List<ProductStockShard> rows) {
+    int share = stock / rows.size();
+    int extra = stock % rows.size();
+    for (int i = 0; i < rows.size(); i++) {
+      rows.get(i).stock = share + (i < extra ? 1 : 0);
+    }
+  }
+
+  private Product findProduct(Long productId, LockModeType lock) {
+    Product product = productRepository.findById(productId, lock);
+    if (product == null) {
+      throw new WebApplicationException("Product with id of " + productId + " does not exist.", 404);
+    }
+    return product;
+  }
+}
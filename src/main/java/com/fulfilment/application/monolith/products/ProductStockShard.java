@@ -0,0 +1,37 @@
+package com.fulfilment.application.monolith.products;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * One slice of the stock of a product. Once a product's stock is sharded, its units are spread
+ * over a few of these rows so that concurrent movements mostly update different rows; the total
+ * is their sum. See {@link ProductStockCounter}.
+ */
+@Entity
+@Table(
+    name = "product_stock_shard",
+    uniqueConstraints = @UniqueConstraint(name = "ux_product_stock_shard", columnNames = {"productId", "shard"}))
+public class ProductStockShard {
+
+  @Id @GeneratedValue public Long id;
+
+  @Column(nullable = false)
+  public Long productId;
+
+  public int shard;
+
+  public int stock;
+
+  public ProductStockShard() {}
+
+  public ProductStockShard(Long productId, int shard, int stock) {
+    this.productId = productId;
+    this.shard = shard;
+    this.stock = stock;
+  }
+}
@@ -0,0 +1,41 @@
+package com.fulfilment.application.monolith.products;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+
+@ApplicationScoped
+public class ProductStockShardRepository implements PanacheRepository<ProductStockShard> {
+
+  /** Adds units to one shard; returns 0 when the shard does not exist. */
+  public int add(Long productId, int shard, int units) {
+    return update("stock = stock + ?1 where productId = ?2 and shard = ?3", units, productId, shard);
+  }
+
+  /** Takes units from one shard if it holds enough of them; returns 0 otherwise. */
+  public int take(Long productId, int shard, int units) {
+    return update("stock = stock - ?1 where productId = ?2 and shard = ?3 and stock >= ?1", units, productId, shard);
+  }
+
+  public List<ProductStockShard> listForUpdate(Long productId) {
+    return find("productId", Sort.by("shard"), productId).withLock(LockModeType.PESSIMISTIC_WRITE).list();
+  }
+
+  public List<ProductStockShard> listByProduct(Long productId) {
+    return list("productId", productId);
+  }
+
+  /** Summed stock of the product's shards, or {@code null} when its stock is not sharded. */
+  public Long total(Long productId) {
+    return getEntityManager()
+        .createQuery("select sum(s.stock) from ProductStockShard s where s.productId = ?1", Long.class)
+        .setParameter(1, productId)
+        .getSingleResult();
+  }
+
+  public long deleteByProduct(Long productId) {
+    return delete("productId", productId);
+  }
+}
@@ -1,22 +1,106 @@
 package com.fulfilment.application.monolith.stores;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 @ApplicationScoped
 public class LegacyStoreManagerGateway {
 
+  public enum ExportMode {
+    // one temporary file per store change
+    TEMP_FILE,
+    // records appended to the memory-mapped StoreExportJournal
+    JOURNAL
+  }
+
+  @ConfigProperty(name = "legacy-store.export.mode", defaultValue = "temp-file")
+  ExportMode exportMode = ExportMode.TEMP_FILE;
+
+  @ConfigProperty(name = "legacy-store.export.journal.directory")
+  Optional<String> journalDirectory = Optional.empty();
+
+  @ConfigProperty(name = "legacy-store.export.journal.segment-size", defaultValue = "67108864")
+  int journalSegmentSize;
+
+  // 0 keeps every segment the reader has not acknowledged yet
+  @ConfigProperty(name = "legacy-store.export.journal.max-segments", defaultValue = "0")
+  int journalMaxSegments;
+
+  // not a monitor: opening the journal does file I/O, which would pin a virtual thread's carrier
+  private final ReentrantLock journalLock = new ReentrantLock();
+  private StoreExportJournal journal;
+
   public void createStoreOnLegacySystem(Store store) {
+    if (exportMode == ExportMode.JOURNAL) {
+      appendToJournal(StoreExportRecord.of(StoreOutboxEvent.Type.CREATED, store));
+      return;
+    }
     // just to emulate as this would send this to a legacy system, let's write a temp file with the
     writeToFile(store);
   }
 
   public void updateStoreOnLegacySystem(Store store) {
+    if (exportMode == ExportMode.JOURNAL) {
+      appendToJournal(StoreExportRecord.of(StoreOutboxEvent.Type.UPDATED, store));
+      return;
+    }
     // just to emulate as this would send this to a legacy system, let's write a temp file with the
     writeToFile(store);
   }
 
+  /**
+   * Makes every change handed over so far durable. In journal mode appends are only copied into the
+   * mapped segment, so callers sending a batch call this once at the end instead of paying a force
+   * per change.
+   */
+  public void flush() {
+    if (exportMode == ExportMode.JOURNAL) {
+      journal().sync();
+    }
+  }
+
+  @PreDestroy
+  void closeJournal() {
+    journalLock.lock();
+    try {
+      if (journal != null) {
+        journal.close();
+      }
+    } finally {
+      journalLock.unlock();
+    }
+  }
+
+  private void appendToJournal(StoreExportRecord record) {
+    try {
+      journal().append(record.encode());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private StoreExportJournal journal() {
+    journalLock.lock();
+    try {
+      if (journal == null) {
+        Path directory = Path.of(journalDirectory.orElse(System.getProperty("java.io.tmpdir")), "store-export");
+        journal = StoreExportJournal.open(directory, journalSegmentSize, journalMaxSegments);
+      }
+      return journal;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      journalLock.unlock();
+    }
+  }
+
   private void writeToFile(Store store) {
     try {
       // Step 1: Create a temporary file
@@ -44,8 +128,9 @@ public class LegacyStoreManagerGateway {
       Files.delete(tempFile);
       System.out.println("Temporary file deleted.");
 
-    } catch (Exception e) {
-      e.printStackTrace();
+    } catch (IOException e) {
+      // surface the failure so the outbox dispatcher retries the delivery
+      throw new UncheckedIOException(e);
     }
   }
 }
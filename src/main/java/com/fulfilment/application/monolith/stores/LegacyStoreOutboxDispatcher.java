@@ -0,0 +1,133 @@
+package com.fulfilment.application.monolith.stores;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.LockOptions;
+import org.jboss.logging.Logger;
+
+/**
+ * Drains the {@link StoreOutboxEvent} table to the {@link LegacyStoreManagerGateway}. Delivery is
+ * at-least-once and in order per store: a batch locks the oldest due event of up to
+ * {@code legacy-store.outbox.batch-size} stores and then sends every pending event of those stores in
+ * id order. The first failure of a store stops that store for the batch, and the failed event is
+ * retried with exponential backoff before anything newer for that store is sent.
+ */
+@ApplicationScoped
+public class LegacyStoreOutboxDispatcher {
+
+  private static final Logger LOGGER = Logger.getLogger(LegacyStoreOutboxDispatcher.class.getName());
+
+  private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+
+  // oldest due event per store; rows locked by another dispatcher instance are skipped, so the head
+  // lock doubles as the claim on its store
+  private static final String DUE_HEADS =
+      "from StoreOutboxEvent e where e.nextAttemptAt <= ?1"
+          + " and not exists (select 1 from StoreOutboxEvent o where o.storeId = e.storeId and o.id < e.id)"
+          + " order by e.id";
+
+  // every pending event of the claimed stores; only a head is ever backed off, so all of them are due
+  private static final String STORE_EVENTS = "from StoreOutboxEvent e where e.storeId in ?1 order by e.id";
+
+  @Inject LegacyStoreManagerGateway legacyStoreManagerGateway;
+  @Inject MeterRegistry registry;
+
+  @ConfigProperty(name = "legacy-store.outbox.batch-size", defaultValue = "100")
+  int batchSize;
+
+  // bounds a batch when a few claimed stores have a long backlog
+  @ConfigProperty(name = "legacy-store.outbox.events-per-store", defaultValue = "50")
+  int eventsPerStore;
+
+  @ConfigProperty(name = "legacy-store.outbox.max-backoff", defaultValue = "PT5M")
+  Duration maxBackoff;
+
+  @Scheduled(every = "${legacy-store.outbox.poll-interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+  void drain() {
+    int delivered;
+    do {
+      delivered = QuarkusTransaction.requiringNew().call(this::dispatchBatch);
+    } while (delivered > 0);
+  }
+
+  int dispatchBatch() {
+    LocalDateTime now = LocalDateTime.now();
+    List<StoreOutboxEvent> heads = StoreOutboxEvent.find(DUE_HEADS, now)
+        .withLock(LockModeType.PESSIMISTIC_WRITE)
+        .withHint("jakarta.persistence.lock.timeout", LockOptions.SKIP_LOCKED)
+        .page(0, batchSize)
+        .list();
+    if (heads.isEmpty()) {
+      return 0;
+    }
+    Set<Long> stores = new HashSet<>();
+    heads.forEach(head -> stores.add(head.storeId));
+    List<StoreOutboxEvent> events = StoreOutboxEvent.find(STORE_EVENTS, stores)
+        .withLock(LockModeType.PESSIMISTIC_WRITE)
+        .page(0, batchSize * eventsPerStore)
+        .list();
+
+    List<StoreOutboxEvent> delivered = deliverInOrder(events, now);
+    if (!delivered.isEmpty()) {
+      delivered.forEach(StoreOutboxEvent::delete);
+      // one durable write for the whole batch; if it fails the deletes roll back and are retried
+      legacyStoreManagerGateway.flush();
+      registry.counter("legacy_store_outbox_delivered").increment(delivered.size());
+    }
+    return delivered.size();
+  }
+
+  /**
+   * Sends events ordered by id and returns the ones delivered. After the first failure of a store
+   * its later events are held back, so the legacy system never sees a store's changes out of order.
+   */
+  List<StoreOutboxEvent> deliverInOrder(List<StoreOutboxEvent> events, LocalDateTime now) {
+    List<StoreOutboxEvent> delivered = new ArrayList<>(events.size());
+    Set<Long> failed = new HashSet<>();
+    for (StoreOutboxEvent event : events) {
+      if (failed.contains(event.storeId)) {
+        continue;
+      }
+      try {
+        deliver(event);
+        delivered.add(event);
+      } catch (RuntimeException e) {
+        failed.add(event.storeId);
+        event.attempts++;
+        event.nextAttemptAt = now.plus(backoff(event.attempts, maxBackoff));
+        event.lastError = abbreviate(e.toString());
+        registry.counter("legacy_store_outbox_errors", "type", event.type.name()).increment();
+        LOGGER.warnv(e, "Failed to deliver {0} of store {1} to legacy system (attempt {2})", event.type, event.storeId, event.attempts);
+      }
+    }
+    return delivered;
+  }
+
+  private void deliver(StoreOutboxEvent event) {
+    switch (event.type) {
+      case CREATED -> legacyStoreManagerGateway.createStoreOnLegacySystem(event.toStore());
+      case UPDATED -> legacyStoreManagerGateway.updateStoreOnLegacySystem(event.toStore());
+    }
+  }
+
+  static Duration backoff(int attempts, Duration max) {
+    int doublings = Math.min(attempts - 1, 30);
+    Duration delay = INITIAL_BACKOFF.multipliedBy(1L << doublings);
+    return delay.compareTo(max) > 0 ? max : delay;
+  }
+
+  private static String abbreviate(String message) {
+    return message.length() <= 1000 ? message : message.substring(0, 1000);
+  }
+}
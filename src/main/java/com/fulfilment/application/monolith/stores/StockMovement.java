@@ -0,0 +1,13 @@
+package com.fulfilment.application.monolith.stores;
+
+/** A signed change to the stock of a store: positive for goods received, negative for goods out. */
+public class StockMovement {
+
+  public Integer delta;
+
+  public StockMovement() {}
+
+  public StockMovement(int delta) {
+    this.delta = delta;
+  }
+}
@@ -1,14 +1,22 @@
 package com.fulfilment.application.monolith.stores;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.panache.common.Sort;
 import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import java.util.List;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
 
 @Entity
 @Cacheable
 public class Store extends PanacheEntity {
 
+  private static final String STOCK_QUERY_SPACE = "store_stock";
+
   @Column(length = 40, unique = true)
   public String name;
 
@@ -25,4 +33,37 @@ public class Store extends PanacheEntity {
     this.name = store.name;
     this.quantityProductsInStock = store.quantityProductsInStock;
   }
+
+  /** All stores ordered by name, served from the query cache until a store changes. */
+  public static List<Store> listAllByName() {
+    return Store.<Store>findAll(Sort.by("name")).withHint(HibernateHints.HINT_CACHEABLE, true).list();
+  }
+
+  /**
+   * Adds {@code delta} to the stock of the store in a single conditional statement, so concurrent
+   * movements never overwrite each other. Returns 0 when the store does not exist or its stock
+   * would drop below zero.
+   *
+   * <p>An HQL bulk update would evict the whole {@code Store} region and every cached query on
+   * stores. The native statement is instead synchronised on a query space no entity or cached query
+   * uses, and only this store is evicted: now, so the caller reads the new stock, and again once
+   * the transaction ends, dropping whatever was cached in between. The price is that a cached query
+   * filtering or sorting on the stock would go stale; none does, and the cached listing by name
+   * holds ids only.
+   */
+  public static int adjustStock(Long id, int delta) {
+    Session session = getSession();
+    int updated = session.createNativeQuery(
+            "update store set quantityProductsInStock = quantityProductsInStock + :delta"
+                + " where id = :id and quantityProductsInStock + :delta >= 0", Object.class)
+        .setParameter("delta", delta)
+        .setParameter("id", id)
+        .addSynchronizedQuerySpace(STOCK_QUERY_SPACE)
+        .executeUpdate();
+    Cache cache = session.getSessionFactory().getCache();
+    cache.evict(Store.class, id);
+    session.unwrap(SessionImplementor.class).getActionQueue()
+        .registerProcess((success, completed) -> cache.evict(Store.class, id));
+    return updated;
+  }
 }
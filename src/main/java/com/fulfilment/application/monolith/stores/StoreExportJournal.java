@@ -0,0 +1,221 @@
+package com.fulfilment.application.monolith.stores;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of length-prefixed records spread over fixed-size, memory-mapped segment
+ * files. Each record is {@code [int length][int crc32][payload]}; a length of {@code 0} marks the
+ * end of the written data and {@link #END_OF_SEGMENT} marks a segment that has been rotated.
+ *
+ * <p>{@link #append} only copies into the mapped segment. {@link #sync} makes everything appended so
+ * far durable with a single {@code force}, and concurrent callers waiting on the same force share
+ * it (group commit). The locks are {@link ReentrantLock}s rather than monitors because a force can
+ * block on disk I/O, and a virtual thread blocking inside a monitor pins its carrier thread.
+ *
+ * <p>Segments are deleted on rotation once the reader has acknowledged a position past them (see
+ * {@link StoreExportJournalReader#acknowledge()}). With {@code maxSegments} above zero, the oldest
+ * segments beyond that many are deleted as well, read or not, so a stalled consumer cannot fill the
+ * disk; a reader that falls that far behind skips ahead to the oldest segment left.
+ */
+public final class StoreExportJournal implements Closeable {
+
+  static final int HEADER_SIZE = 8;
+  static final int END_OF_SEGMENT = -1;
+  static final String ACKNOWLEDGED_FILE = "acknowledged.position";
+
+  private final Path directory;
+  private final int segmentSize;
+  private final int maxSegments;
+
+  private final ReentrantLock appendLock = new ReentrantLock();
+  private final ReentrantLock syncLock = new ReentrantLock();
+
+  // guarded by appendLock
+  private long segmentIndex;
+  private MappedByteBuffer segment;
+  private long appended;
+
+  // only written under syncLock
+  private volatile long durable;
+
+  private StoreExportJournal(Path directory, int segmentSize, int maxSegments) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.maxSegments = maxSegments;
+  }
+
+  public static StoreExportJournal open(Path directory, int segmentSize) throws IOException {
+    return open(directory, segmentSize, 0);
+  }
+
+  /** Opens the journal, keeping at most {@code maxSegments} segment files; {@code 0} for no limit. */
+  public static StoreExportJournal open(Path directory, int segmentSize, int maxSegments) throws IOException {
+    Files.createDirectories(directory);
+    var journal = new StoreExportJournal(directory, segmentSize, maxSegments);
+    journal.recover();
+    return journal;
+  }
+
+  static Path segmentPath(Path directory, long index) {
+    return directory.resolve(String.format("%020d.journal", index));
+  }
+
+  static List<Long> segmentIndexes(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString())
+          .filter(name -> name.endsWith(".journal"))
+          .map(name -> Long.parseLong(name.substring(0, name.indexOf('.'))))
+          .sorted()
+          .toList();
+    }
+  }
+
+  /** The segment the reader last acknowledged a position in, or {@code -1} if it never did. */
+  static long acknowledgedSegment(Path directory) throws IOException {
+    Path file = directory.resolve(ACKNOWLEDGED_FILE);
+    if (!Files.exists(file)) {
+      return -1;
+    }
+    String position = Files.readString(file).trim();
+    return Long.parseLong(position.substring(0, position.indexOf(' ')));
+  }
+
+  public void append(byte[] payload) throws IOException {
+    if (payload.length == 0 || payload.length > segmentSize - HEADER_SIZE) {
+      throw new IllegalArgumentException("Record of " + payload.length + " bytes does not fit a journal segment");
+    }
+    var crc = new CRC32();
+    crc.update(payload);
+
+    appendLock.lock();
+    try {
+      if (segment.remaining() < HEADER_SIZE + payload.length) {
+        rotate();
+      }
+      int offset = segment.position();
+      segment.putInt(offset + 4, (int) crc.getValue());
+      segment.put(offset + HEADER_SIZE, payload);
+      // the length goes in last: a reader treats a zero length as "nothing written yet"
+      segment.putInt(offset, payload.length);
+      segment.position(offset + HEADER_SIZE + payload.length);
+      appended += HEADER_SIZE + payload.length;
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  public void sync() {
+    long target;
+    appendLock.lock();
+    try {
+      target = appended;
+    } finally {
+      appendLock.unlock();
+    }
+    if (durable >= target) {
+      return;
+    }
+    syncLock.lock();
+    try {
+      if (durable >= target) {
+        // forced by another caller while we waited
+        return;
+      }
+      MappedByteBuffer current;
+      long upTo;
+      appendLock.lock();
+      try {
+        current = segment;
+        upTo = appended;
+      } finally {
+        appendLock.unlock();
+      }
+      // rotated segments were forced when they were closed, so forcing the current one suffices
+      current.force();
+      durable = upTo;
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    sync();
+  }
+
+  private void rotate() throws IOException {
+    if (segment.remaining() >= 4) {
+      segment.putInt(segment.position(), END_OF_SEGMENT);
+    }
+    segment.force();
+    map(segmentIndex + 1);
+    segment.position(0);
+    deleteRetiredSegments();
+  }
+
+  private void deleteRetiredSegments() throws IOException {
+    // everything before the acknowledged segment has been consumed
+    long keepFrom = acknowledgedSegment(directory);
+    if (maxSegments > 0) {
+      keepFrom = Math.max(keepFrom, segmentIndex - maxSegments + 1);
+    }
+    for (long index : segmentIndexes(directory)) {
+      if (index >= keepFrom) {
+        break;
+      }
+      Files.deleteIfExists(segmentPath(directory, index));
+    }
+  }
+
+  private void map(long index) throws IOException {
+    try (FileChannel channel = FileChannel.open(segmentPath(directory, index),
+        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+    segmentIndex = index;
+  }
+
+  private void recover() throws IOException {
+    List<Long> segments = segmentIndexes(directory);
+    if (segments.isEmpty()) {
+      map(0);
+      segment.position(0);
+      return;
+    }
+
+    map(segments.get(segments.size() - 1));
+
+    int offset = 0;
+    var crc = new CRC32();
+    while (offset + HEADER_SIZE <= segmentSize) {
+      int length = segment.getInt(offset);
+      if (length == END_OF_SEGMENT) {
+        map(segmentIndex + 1);
+        offset = 0;
+        break;
+      }
+      if (length <= 0 || offset + HEADER_SIZE + length > segmentSize) {
+        break;
+      }
+      crc.reset();
+      crc.update(segment.slice(offset + HEADER_SIZE, length));
+      if ((int) crc.getValue() != segment.getInt(offset + 4)) {
+        // torn write from a crash: overwrite it
+        segment.putInt(offset, 0);
+        break;
+      }
+      offset += HEADER_SIZE + length;
+    }
+    segment.position(offset);
+  }
+}
@@ -0,0 +1,127 @@
+package com.fulfilment.application.monolith.stores;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Tails a {@link StoreExportJournal} for the downstream consumer. The reader keeps its own position
+ * (segment index and offset), which the consumer can persist and pass back in to resume. Once the
+ * consumer has processed what it read, {@link #acknowledge()} lets the journal delete the segments
+ * before the current one.
+ */
+public final class StoreExportJournalReader {
+
+  private final Path directory;
+  private final CRC32 crc = new CRC32();
+
+  private long segmentIndex;
+  private int offset;
+  private MappedByteBuffer segment;
+
+  public StoreExportJournalReader(Path directory, long segmentIndex, int offset) {
+    this.directory = directory;
+    this.segmentIndex = segmentIndex;
+    this.offset = offset;
+  }
+
+  public long getSegmentIndex() {
+    return segmentIndex;
+  }
+
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * Records the current position as consumed. The journal deletes the segments before it on its
+   * next rotation.
+   */
+  public void acknowledge() throws IOException {
+    Path file = directory.resolve(StoreExportJournal.ACKNOWLEDGED_FILE);
+    Path written = Files.writeString(directory.resolve(StoreExportJournal.ACKNOWLEDGED_FILE + ".tmp"), segmentIndex + " " + offset);
+    Files.move(written, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Hands up to {@code maxRecords} newly written records to the consumer and returns how many. */
+  public int poll(int maxRecords, Consumer<StoreExportRecord> consumer) throws IOException {
+    if (segment == null && !map(segmentIndex) && !skipToOldest()) {
+      return 0;
+    }
+
+    int read = 0;
+    while (read < maxRecords) {
+      if (offset + StoreExportJournal.HEADER_SIZE > segment.capacity()) {
+        if (!advance()) {
+          break;
+        }
+        continue;
+      }
+      int length = segment.getInt(offset);
+      if (length == StoreExportJournal.END_OF_SEGMENT) {
+        if (!advance()) {
+          break;
+        }
+        continue;
+      }
+      if (length <= 0 || offset + StoreExportJournal.HEADER_SIZE + length > segment.capacity()) {
+        break;
+      }
+      var payload = segment.slice(offset + StoreExportJournal.HEADER_SIZE, length);
+      crc.reset();
+      crc.update(payload.duplicate());
+      if ((int) crc.getValue() != segment.getInt(offset + 4)) {
+        // record still being written; pick it up on the next poll
+        break;
+      }
+      consumer.accept(StoreExportRecord.decode(payload));
+      offset += StoreExportJournal.HEADER_SIZE + length;
+      read++;
+    }
+    return read;
+  }
+
+  private boolean advance() throws IOException {
+    if (!map(segmentIndex + 1)) {
+      return skipToOldest();
+    }
+    offset = 0;
+    return true;
+  }
+
+  // the journal deleted segments this reader had not reached yet, because of its segment limit
+  private boolean skipToOldest() throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return false;
+    }
+    for (long index : StoreExportJournal.segmentIndexes(directory)) {
+      if (index > segmentIndex && map(index)) {
+        offset = 0;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean map(long index) throws IOException {
+    Path file = StoreExportJournal.segmentPath(directory, index);
+    if (!Files.exists(file)) {
+      return false;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() < StoreExportJournal.HEADER_SIZE) {
+        // created but not sized by the writer yet
+        return false;
+      }
+      segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    segmentIndex = index;
+    return true;
+  }
+}
@@ -0,0 +1,42 @@
+package com.fulfilment.application.monolith.stores;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import lombok.Value;
+
+/** A store change as written to the {@link StoreExportJournal}. */
+@Value
+public class StoreExportRecord {
+
+  StoreOutboxEvent.Type type;
+
+  Long storeId;
+
+  String name;
+
+  int quantityProductsInStock;
+
+  public static StoreExportRecord of(StoreOutboxEvent.Type type, Store store) {
+    return new StoreExportRecord(type, store.id, store.name, store.quantityProductsInStock);
+  }
+
+  // layout: type (1 byte), store id (8), quantity (4), name (UTF-8, rest of the record)
+  public byte[] encode() {
+    byte[] nameBytes = name == null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+    return ByteBuffer.allocate(13 + nameBytes.length)
+        .put((byte) type.ordinal())
+        .putLong(storeId == null ? -1 : storeId)
+        .putInt(quantityProductsInStock)
+        .put(nameBytes)
+        .array();
+  }
+
+  public static StoreExportRecord decode(ByteBuffer payload) {
+    var type = StoreOutboxEvent.Type.values()[payload.get()];
+    long storeId = payload.getLong();
+    int quantity = payload.getInt();
+    byte[] nameBytes = new byte[payload.remaining()];
+    payload.get(nameBytes);
+    return new StoreExportRecord(type, storeId == -1 ? null : storeId, new String(nameBytes, StandardCharsets.UTF_8), quantity);
+  }
+}
@@ -0,0 +1,87 @@
+package com.fulfilment.application.monolith.stores;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * A store change waiting to be sent to the legacy store manager. Rows are written in the same
+ * transaction as the {@link Store} change and removed by {@link LegacyStoreOutboxDispatcher} once
+ * delivered.
+ */
+@Entity
+@Table(
+    name = "store_outbox",
+    indexes = {
+      @Index(name = "ix_store_outbox_next_attempt_at", columnList = "nextAttemptAt"),
+      @Index(name = "ix_store_outbox_store_id", columnList = "storeId")
+    })
+public class StoreOutboxEvent extends PanacheEntity {
+
+  public enum Type {
+    CREATED,
+    UPDATED
+  }
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 16, nullable = false)
+  public Type type;
+
+  @Column(nullable = false)
+  public Long storeId;
+
+  @Column(length = 40)
+  public String name;
+
+  public int quantityProductsInStock;
+
+  public LocalDateTime createdAt;
+
+  public LocalDateTime nextAttemptAt;
+
+  public int attempts;
+
+  @Column(length = 1000)
+  public String lastError;
+
+  public StoreOutboxEvent() {}
+
+  public static StoreOutboxEvent of(Type type, Store store) {
+    var event = new StoreOutboxEvent();
+    event.type = type;
+    event.storeId = store.id;
+    event.name = store.name;
+    event.quantityProductsInStock = store.quantityProductsInStock;
+    event.createdAt = LocalDateTime.now();
+    event.nextAttemptAt = event.createdAt;
+    return event;
+  }
+
+  /**
+   * Records the current state of a store as an update. When the newest pending event of the store
+   * is already an update, that event takes the new state instead, so a burst of stock movements
+   * leaves one event to deliver rather than one per movement. Run it while holding the store's row
+   * lock, which keeps two writers from both missing the pending event.
+   */
+  public static void recordUpdate(Store store) {
+    int folded = update("name = ?1, quantityProductsInStock = ?2 where storeId = ?3 and type = ?4"
+            + " and id = (select max(o.id) from StoreOutboxEvent o where o.storeId = ?3)",
+        store.name, store.quantityProductsInStock, store.id, Type.UPDATED);
+    if (folded == 0) {
+      of(Type.UPDATED, store).persist();
+    }
+  }
+
+  /** The store state captured when the event was written. */
+  public Store toStore() {
+    var store = new Store(name);
+    store.id = storeId;
+    store.quantityProductsInStock = quantityProductsInStock;
+    return store;
+  }
+}
@@ -2,10 +2,8 @@ package com.fulfilment.application.monolith.stores;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -28,9 +26,8 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.annotation.Counted;
-import java.util.concurrent.atomic.AtomicReference;
-import io.quarkus.narayana.jta.QuarkusTransaction;
-import io.micrometer.core.instrument.MeterRegistry;
+import com.fulfilment.application.monolith.execution.BlockingWork;
+import io.smallrye.mutiny.Uni;
 
 
 @Path("store")
@@ -39,19 +36,19 @@ import io.micrometer.core.instrument.MeterRegistry;
 @Consumes("application/json")
 public class StoreResource {
 
-  @Inject private LegacyStoreManagerGateway legacyStoreManagerGateway;
-  @Inject private MeterRegistry registry;
-
   private static final Logger LOGGER = Logger.getLogger(StoreResource.class.getName());
 
+  @Inject BlockingWork blockingWork;
+  @Inject StoreStockMovements stockMovements;
+
   @GET
   @Operation(summary = "List all available stores", description = "Provides a sorted list of stores, ordered by their name.")
   @APIResponses({
           @APIResponse(responseCode = "200", description = "Stores retrieved and listed in order",
                   content = @Content(mediaType = "application/json", schema = @Schema(implementation = Store.class)))
   })
-  public List<Store> get() {
-    return Store.listAll(Sort.by("name"));
+  public Uni<List<Store>> get() {
+    return blockingWork.inTransaction(Store::listAllByName);
   }
 
   @GET
@@ -62,56 +59,45 @@ public class StoreResource {
                   content = @Content(mediaType = "application/json", schema = @Schema(implementation = Store.class))),
           @APIResponse(responseCode = "404", description = "Store with the given ID not found")
   })
-  public Store getSingle(
+  public Uni<Store> getSingle(
           @Parameter(description = "Unique ID of the store to retrieve", required = true) Long id) {
-    Store entity = Store.findById(id);
-    if (entity == null) {
-      throw new WebApplicationException("Store with id " + id + " does not exist.", 404);
-    }
-    return entity;
+    return blockingWork.inTransaction(() -> {
+      Store entity = Store.findById(id);
+      if (entity == null) {
+        throw new WebApplicationException("Store with id " + id + " does not exist.", 404);
+      }
+      return entity;
+    });
   }
 
 
   @POST
-  @Transactional
   @Timed(value = "store_creation_duration", description = "Time taken to create a store")
   @Counted(value = "store_creation_counter", description = "Counts how many stores have been created")
-  @Operation(summary = "Add a new store", description = "Handles the creation of a new store and notifies the legacy system.")
+  @Operation(summary = "Add a new store", description = "Handles the creation of a new store and queues a notification for the legacy system.")
   @APIResponses({
           @APIResponse(responseCode = "201", description = "Store created successfully",
                   content = @Content(mediaType = "application/json", schema = @Schema(implementation = Store.class))),
           @APIResponse(responseCode = "422", description = "Invalid input: store ID should not be provided.")
   })
-  public Response create(
+  public Uni<Response> create(
           @Parameter(description = "Store object that needs to be created", required = true) Store store) {
 
     if (store.id != null) {
       throw new WebApplicationException("ID should not be included in the request.", 422);
     }
 
-    var storeCopy = new AtomicReference<Store>();
-    QuarkusTransaction.requiringNew().run(() -> {
+    return blockingWork.inTransaction(() -> {
       store.persist();
-      // Create a detached copy of the store entity for legacy system processing.
-      storeCopy.set(new Store(store));
+      // Queue the legacy notification in the same transaction; LegacyStoreOutboxDispatcher delivers it.
+      StoreOutboxEvent.of(StoreOutboxEvent.Type.CREATED, store).persist();
+      return Response.ok(new Store(store)).status(201).build();
     });
-
-    try {
-      // Notify the legacy system after successful persistence.
-      legacyStoreManagerGateway.createStoreOnLegacySystem(storeCopy.get());
-    } catch (RuntimeException e) {
-      registry.counter("store_creation_legacy_errors").increment();
-      LOGGER.error("Failed to notify legacy system for store: " + storeCopy.get(), e);
-      throw e;
-    }
-
-    return Response.ok(storeCopy.get()).status(201).build();
   }
 
 
   @PUT
   @Path("{id}")
-  @Transactional
   @Timed(value = "update_store_time", description = "Time taken to update store")
   @Counted(value = "update_store_count", description = "Number of stores updated")
   @Operation(summary = "Update an existing store", description = "Updates an existing store in the system by ID.")
@@ -121,7 +107,7 @@ public class StoreResource {
           @APIResponse(responseCode = "404", description = "Store not found"),
           @APIResponse(responseCode = "422", description = "Invalid input")
   })
-  public Store update(
+  public Uni<Store> update(
           @Parameter(description = "ID of the store to update", required = true) Long id,
           @Parameter(description = "Updated store object", required = true) Store updatedStore) {
 
@@ -129,8 +115,7 @@ public class StoreResource {
       throw new WebApplicationException("Store Name was not set on request.", 422);
     }
 
-    var updatedStoreCopy = new AtomicReference<Store>();
-    QuarkusTransaction.requiringNew().run(() -> {
+    return blockingWork.inTransaction(() -> {
       Store entity = Store.findById(id);
 
       if (entity == null) {
@@ -139,25 +124,14 @@ public class StoreResource {
 
       entity.name = updatedStore.name;
       entity.quantityProductsInStock = updatedStore.quantityProductsInStock;
+      StoreOutboxEvent.of(StoreOutboxEvent.Type.UPDATED, entity).persist();
       // Copy the updated store to avoid exposing persistence-managed entities
-      updatedStoreCopy.set(new Store(entity));
+      return new Store(entity);
     });
-
-    try {
-      // Notify the legacy system after the database transaction is committed
-      legacyStoreManagerGateway.updateStoreOnLegacySystem(updatedStoreCopy.get());
-    } catch (RuntimeException e) {
-      registry.counter("update_legacy_store_errors").count();
-      LOGGER.warnv(e, "Failed to update Store in legacy system; Store {0}", updatedStoreCopy.get());
-      throw e;
-    }
-
-    return updatedStoreCopy.get();
   }
 
   @PATCH
   @Path("{id}")
-  @Transactional
   @Timed(value = "patch_store_duration", description = "Tracks the time taken to patch a store")
   @Counted(value = "patched_store_counter", description = "Counts how many stores have been patched")
   @Operation(summary = "Partially update a store", description = "Patches specific fields of an existing store by its ID.")
@@ -167,7 +141,7 @@ public class StoreResource {
           @APIResponse(responseCode = "404", description = "Store not found"),
           @APIResponse(responseCode = "422", description = "Invalid input")
   })
-  public Store patch(
+  public Uni<Store> patch(
           @Parameter(description = "ID of the store to patch", required = true) Long id,
           @Parameter(description = "Store object containing fields to patch", required = true) Store updatedStore) {
 
@@ -175,8 +149,7 @@ public class StoreResource {
       throw new WebApplicationException("Store Name was not set on the request.", 422);
     }
 
-    var patchedStore = new AtomicReference<Store>();
-    QuarkusTransaction.requiringNew().run(() -> {
+    return blockingWork.inTransaction(() -> {
       Store entity = Store.findById(id);
 
       if (entity == null) {
@@ -193,24 +166,36 @@ public class StoreResource {
       }
 
       entity.persist();
-      patchedStore.set(new Store(entity)); // Store a detached copy
+      StoreOutboxEvent.of(StoreOutboxEvent.Type.UPDATED, entity).persist();
+      return new Store(entity); // Store a detached copy
     });
+  }
 
-    try {
-      // Notify the legacy system after successful transaction
-      legacyStoreManagerGateway.updateStoreOnLegacySystem(patchedStore.get());
-    } catch (RuntimeException e) {
-      registry.counter("patch_legacy_store_errors").increment();
-      LOGGER.warn("Failed to patch store in legacy system for Store ID: " + patchedStore.get(), e);
-      throw e;
+  @POST
+  @Path("{id}/stock")
+  @Timed(value = "store_stock_movement_duration", description = "Time taken to apply a stock movement to a store")
+  @Counted(value = "store_stock_movement_counter", description = "Counts the stock movements applied to stores")
+  @Operation(summary = "Move stock in or out of a store", description = "Adds a signed delta to the stock of a store in one atomic update. The stock never drops below zero.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Stock movement applied",
+                  content = @Content(mediaType = "application/json", schema = @Schema(implementation = Store.class))),
+          @APIResponse(responseCode = "404", description = "Store not found"),
+          @APIResponse(responseCode = "409", description = "Stock would drop below zero"),
+          @APIResponse(responseCode = "422", description = "Invalid input")
+  })
+  public Uni<Store> moveStock(
+          @Parameter(description = "ID of the store whose stock moves", required = true) Long id,
+          @Parameter(description = "Signed stock delta", required = true) StockMovement movement) {
+
+    if (movement == null || movement.delta == null || movement.delta == 0) {
+      throw new WebApplicationException("A non-zero stock delta must be set on the request.", 422);
     }
 
-    return patchedStore.get();
+    return stockMovements.move(id, movement.delta);
   }
 
   @DELETE
   @Path("{id}")
-  @Transactional
   @Timed(value = "delete_store_duration", description = "Time taken to delete a store")
   @Counted(value = "deleted_store_counter", description = "Counts the number of stores deleted")
   @Operation(summary = "Delete a store by ID", description = "Deletes a store from the system by its unique ID.")
@@ -218,18 +203,20 @@ public class StoreResource {
           @APIResponse(responseCode = "204", description = "Store deleted successfully"),
           @APIResponse(responseCode = "404", description = "Store with the given ID not found")
   })
-  public Response delete(
+  public Uni<Response> delete(
           @Parameter(description = "Unique ID of the store to delete", required = true) Long id) {
 
-    Store entity = Store.findById(id);
+    return blockingWork.inTransaction(() -> {
+      Store entity = Store.findById(id);
 
-    if (entity == null) {
-      throw new WebApplicationException("Store with ID " + id + " does not exist.", 404);
-    }
+      if (entity == null) {
+        throw new WebApplicationException("Store with ID " + id + " does not exist.", 404);
+      }
 
-    entity.delete();
+      entity.delete();
 
-    return Response.status(204).build();
+      return Response.status(204).build();
+    });
   }
 
 
@@ -0,0 +1,141 @@
+package com.fulfilment.application.monolith.stores;
+
+import com.fulfilment.application.monolith.execution.BlockingWork;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Applies stock movements to stores with {@link Store#adjustStock}, never by reading and writing
+ * back the entity.
+ *
+ * <p>With {@code store.stock.batching.enabled}, movements for the same store that arrive within
+ * one {@code store.stock.batching.window} are merged into one statement carrying their net delta,
+ * and every caller gets the stock after that statement. Movements in one window count as
+ * concurrent: only the net result has to stay at or above zero. If it does not, the window falls
+ * back to applying its movements one by one, in arrival order, so only those that do not fit are
+ * rejected.
+ *
+ * <p>Each store keeps at most one pending stock update in the outbox: a movement folds its state
+ * into the store's newest undelivered update, so the legacy feed sends the latest stock rather
+ * than every step of a burst.
+ */
+@ApplicationScoped
+public class StoreStockMovements {
+
+  @Inject BlockingWork blockingWork;
+
+  @ConfigProperty(name = "store.stock.batching.enabled", defaultValue = "false")
+  boolean batching;
+
+  @ConfigProperty(name = "store.stock.batching.window", defaultValue = "PT0.02S")
+  Duration window;
+
+  @ConfigProperty(name = "store.stock.batching.flush-threads", defaultValue = "2")
+  int flushThreads;
+
+  private final ConcurrentMap<Long, List<Pending>> pending = new ConcurrentHashMap<>();
+  private ScheduledExecutorService flusher;
+
+  public Uni<Store> move(Long storeId, int delta) {
+    if (!batching) {
+      return blockingWork.inTransaction(() -> apply(storeId, delta));
+    }
+    var movement = new Pending(delta);
+    pending.compute(storeId, (id, movements) -> {
+      if (movements == null) {
+        movements = new ArrayList<>();
+        flusher.schedule(() -> flush(id), window.toNanos(), TimeUnit.NANOSECONDS);
+      }
+      movements.add(movement);
+      return movements;
+    });
+    return Uni.createFrom().completionStage(movement.result);
+  }
+
+  // runs in the caller's transaction
+  static Store apply(Long storeId, int delta) {
+    if (Store.adjustStock(storeId, delta) == 0) {
+      if (Store.findById(storeId) == null) {
+        throw new WebApplicationException("Store with id " + storeId + " does not exist.", 404);
+      }
+      throw new WebApplicationException("Stock of store " + storeId + " cannot drop below zero.", 409);
+    }
+    Store store = Store.findById(storeId);
+    // the conditional update above holds the store's row lock until commit
+    StoreOutboxEvent.recordUpdate(store);
+    return new Store(store);
+  }
+
+  void flush(Long storeId) {
+    // once removed, later movements for the store start a new window
+    List<Pending> movements = pending.remove(storeId);
+    if (movements == null) {
+      return;
+    }
+    long net = movements.stream().mapToLong(movement -> movement.delta).sum();
+    try {
+      Store store = QuarkusTransaction.requiringNew().call(() -> apply(storeId, Math.toIntExact(net)));
+      movements.forEach(movement -> movement.result.complete(store));
+      return;
+    } catch (WebApplicationException e) {
+      if (e.getResponse().getStatus() == 404) {
+        movements.forEach(movement -> movement.result.completeExceptionally(e));
+        return;
+      }
+    } catch (ArithmeticException e) {
+      // the net delta does not fit a single statement, apply the movements separately
+    } catch (RuntimeException e) {
+      movements.forEach(movement -> movement.result.completeExceptionally(e));
+      return;
+    }
+    for (Pending movement : movements) {
+      try {
+        movement.result.complete(QuarkusTransaction.requiringNew().call(() -> apply(storeId, movement.delta)));
+      } catch (RuntimeException e) {
+        movement.result.completeExceptionally(e);
+      }
+    }
+  }
+
+  @PostConstruct
+  void start() {
+    if (batching) {
+      flusher = Executors.newScheduledThreadPool(flushThreads, runnable -> {
+        Thread thread = new Thread(runnable, "store-stock-flush");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  @PreDestroy
+  void stop() {
+    if (flusher != null) {
+      flusher.shutdown();
+    }
+  }
+
+  private static final class Pending {
+    private final int delta;
+    private final CompletableFuture<Store> result = new CompletableFuture<>();
+
+    private Pending(int delta) {
+      this.delta = delta;
+    }
+  }
+}
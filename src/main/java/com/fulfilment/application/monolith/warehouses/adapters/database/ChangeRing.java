@@ -0,0 +1,87 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseChange;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size buffer of the most recent changes, kept in sequence order. Every change numbered above
+ * {@link #coveredFrom()} that has been added is in the buffer; older ones have to be read from the
+ * database. Not thread-safe, {@link WarehouseChangeFeed} guards it.
+ */
+final class ChangeRing {
+
+  private final WarehouseChange[] slots;
+  private int head;
+  private int size;
+  private long coveredFrom;
+
+  ChangeRing(int capacity, long coveredFrom) {
+    this.slots = new WarehouseChange[capacity];
+    this.coveredFrom = coveredFrom;
+  }
+
+  long coveredFrom() {
+    return coveredFrom;
+  }
+
+  void reset(long coveredFrom) {
+    head = 0;
+    size = 0;
+    this.coveredFrom = coveredFrom;
+  }
+
+  void add(WarehouseChange change) {
+    if (change.getSequence() <= coveredFrom) {
+      // committed after its number fell out of the buffer; readers get it from the database
+      return;
+    }
+    if (size == slots.length) {
+      coveredFrom = get(0).getSequence();
+      slots[head] = null;
+      head = (head + 1) % slots.length;
+      size--;
+    }
+    // transactions can commit out of numbering order, so insert from the tail
+    int index = size;
+    while (index > 0 && get(index - 1).getSequence() > change.getSequence()) {
+      set(index, get(index - 1));
+      index--;
+    }
+    set(index, change);
+    size++;
+  }
+
+  /**
+   * Up to {@code limit} changes numbered above {@code sequence} and at most {@code upTo}, or
+   * {@code null} when some of them may have left the buffer already.
+   */
+  List<WarehouseChange> after(long sequence, long upTo, int limit) {
+    if (sequence < coveredFrom) {
+      return null;
+    }
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (get(middle).getSequence() <= sequence) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    List<WarehouseChange> changes = new ArrayList<>(Math.min(limit, size - low));
+    for (int i = low; i < size && changes.size() < limit && get(i).getSequence() <= upTo; i++) {
+      changes.add(get(i));
+    }
+    return changes;
+  }
+
+  private WarehouseChange get(int index) {
+    return slots[(head + index) % slots.length];
+  }
+
+  private void set(int index, WarehouseChange change) {
+    slots[(head + index) % slots.length] = change;
+  }
+}
@@ -5,23 +5,37 @@ import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "warehouse")
+@Table(
+    name = "warehouse",
+    // archived units live in warehouse_history, so this table holds at most one row per code
+    uniqueConstraints = @UniqueConstraint(name = "ux_warehouse_active_bu_code", columnNames = "businessUnitCode"),
+    indexes = {
+      @Index(name = "ix_warehouse_location", columnList = "location"),
+      @Index(name = "ix_warehouse_created_at", columnList = "createdAt")
+    })
 @Cacheable
+@NaturalIdCache
 @AllArgsConstructor
 @Data
 public class DbWarehouse {
 
   @Id @GeneratedValue public Long id;
 
-  public String businessUnitCode;
+  // lookups by code resolve through the session and the natural-id cache instead of a query
+  @NaturalId public String businessUnitCode;
 
   public String location;
 
@@ -31,8 +45,12 @@ public class DbWarehouse {
 
   public LocalDateTime createdAt;
 
+  // always null here: archiving moves the row to DbWarehouseHistory
   public LocalDateTime archivedAt;
 
+  // optimistic lock: concurrent replaces/archives of the same row fail instead of both winning
+  @Version public Long version;
+
   public DbWarehouse() {}
 
   public Warehouse toWarehouse() {
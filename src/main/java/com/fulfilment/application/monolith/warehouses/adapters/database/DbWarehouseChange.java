@@ -0,0 +1,59 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseChange;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** Durable copy of the change feed, read when a consumer resumes from before the in-memory buffer. */
+@Entity
+@Table(name = "warehouse_change")
+@NoArgsConstructor
+@Data
+public class DbWarehouseChange {
+
+  // allocation size 1: numbers are handed out by the database in insert order, also across nodes
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "warehouse_change_seq")
+  @SequenceGenerator(name = "warehouse_change_seq", sequenceName = "warehouse_change_seq", allocationSize = 1)
+  public Long sequence;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 16, nullable = false)
+  public WarehouseChange.Type type;
+
+  public String businessUnitCode;
+
+  public String location;
+
+  public Integer capacity;
+
+  public Integer stock;
+
+  public LocalDateTime changedAt;
+
+  public static DbWarehouseChange of(WarehouseChange.Type type, DbWarehouse warehouse) {
+    var change = new DbWarehouseChange();
+    change.type = type;
+    change.businessUnitCode = warehouse.getBusinessUnitCode();
+    change.location = warehouse.getLocation();
+    change.capacity = warehouse.getCapacity();
+    change.stock = warehouse.getStock();
+    change.changedAt = LocalDateTime.now();
+    return change;
+  }
+
+  public WarehouseChange toChange() {
+    return new WarehouseChange(sequence, type, businessUnitCode, location, capacity, stock, changedAt);
+  }
+}
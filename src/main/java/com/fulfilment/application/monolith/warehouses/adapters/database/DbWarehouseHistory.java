@@ -0,0 +1,51 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An archived warehouse. Archiving moves the row out of the {@code warehouse} table, so that table
+ * only ever holds the active units; the id is the one the unit had while it was active.
+ */
+@Entity
+@Table(
+    name = "warehouse_history",
+    indexes = {
+      @Index(name = "ix_warehouse_history_bu_code_archived_at", columnList = "businessUnitCode, archivedAt"),
+      @Index(name = "ix_warehouse_history_location", columnList = "location")
+    })
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class DbWarehouseHistory {
+
+  @Id public Long id;
+
+  public String businessUnitCode;
+
+  public String location;
+
+  public Integer capacity;
+
+  public Integer stock;
+
+  public LocalDateTime createdAt;
+
+  public LocalDateTime archivedAt;
+
+  static DbWarehouseHistory archived(DbWarehouse warehouse, LocalDateTime archivedAt) {
+    return new DbWarehouseHistory(warehouse.getId(), warehouse.getBusinessUnitCode(), warehouse.getLocation(),
+        warehouse.getCapacity(), warehouse.getStock(), warehouse.getCreatedAt(), archivedAt);
+  }
+
+  DbWarehouse toDbWarehouse() {
+    return new DbWarehouse(id, businessUnitCode, location, capacity, stock, createdAt, archivedAt, null);
+  }
+}
@@ -0,0 +1,91 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory per-location totals of active warehouses, kept in step with the warehouse table by
+ * {@link WarehouseRepository}. Deltas recorded inside a transaction are only applied once that
+ * transaction commits, so a rolled back create never shows up in the counts.
+ */
+@ApplicationScoped
+public class LocationAggregateIndex {
+
+  private final ConcurrentMap<String, LocationAggregate> byLocation = new ConcurrentHashMap<>();
+
+  @Inject TransactionSynchronizationRegistry transactionRegistry;
+
+  public LocationAggregate get(String location) {
+    if (location == null) {
+      return LocationAggregate.empty(null);
+    }
+    LocationAggregate aggregate = byLocation.get(location);
+    return aggregate != null ? aggregate : LocationAggregate.empty(location);
+  }
+
+  public void reset(Collection<LocationAggregate> aggregates) {
+    byLocation.clear();
+    aggregates.forEach(aggregate -> byLocation.put(aggregate.getLocation(), aggregate));
+  }
+
+  public void added(DbWarehouse warehouse) {
+    if (warehouse.getArchivedAt() == null) {
+      adjust(warehouse.getLocation(), 1, value(warehouse.getCapacity()), value(warehouse.getStock()));
+    }
+  }
+
+  public void removed(DbWarehouse warehouse) {
+    if (warehouse.getArchivedAt() == null) {
+      adjust(warehouse.getLocation(), -1, -value(warehouse.getCapacity()), -value(warehouse.getStock()));
+    }
+  }
+
+  private void adjust(String location, long warehouses, long capacity, long stock) {
+    if (location == null) {
+      return;
+    }
+    Runnable change =
+        () ->
+            byLocation.compute(
+                location,
+                (key, current) ->
+                    (current != null ? current : LocationAggregate.empty(key))
+                        .plus(warehouses, capacity, stock));
+
+    if (transactionRegistry != null
+        && transactionRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+      transactionRegistry.registerInterposedSynchronization(new AfterCommit(change));
+    } else {
+      change.run();
+    }
+  }
+
+  private static long value(Integer number) {
+    return number != null ? number : 0;
+  }
+
+  private static final class AfterCommit implements Synchronization {
+    private final Runnable change;
+
+    private AfterCommit(Runnable change) {
+      this.change = change;
+    }
+
+    @Override
+    public void beforeCompletion() {}
+
+    @Override
+    public void afterCompletion(int status) {
+      if (status == Status.STATUS_COMMITTED) {
+        change.run();
+      }
+    }
+  }
+}
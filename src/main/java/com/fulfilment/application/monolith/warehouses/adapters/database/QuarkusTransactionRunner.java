@@ -0,0 +1,42 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.domain.ports.TransactionRunner;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
+import org.hibernate.exception.ConstraintViolationException;
+
+@ApplicationScoped
+public class QuarkusTransactionRunner implements TransactionRunner {
+
+  static final String ACTIVE_BU_CODE_INDEX = "ux_warehouse_active_bu_code";
+
+  @Override
+  public void inNewTransaction(Runnable work) {
+    try {
+      QuarkusTransaction.requiringNew().run(work);
+    } catch (RuntimeException e) {
+      if (isConcurrencyConflict(e)) {
+        throw new WarehouseException(ErrorRule.CONCURRENT_MODIFICATION);
+      }
+      throw e;
+    }
+  }
+
+  // a stale @Version, or a second active row for the same business unit code
+  static boolean isConcurrencyConflict(Throwable exception) {
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      if (cause instanceof OptimisticLockException || cause instanceof StaleStateException) {
+        return true;
+      }
+      if (cause instanceof ConstraintViolationException violation
+          && ACTIVE_BU_CODE_INDEX.equalsIgnoreCase(violation.getConstraintName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,82 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.ReactiveWarehouseStore;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.pgclient.PgPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ReactiveWarehouseStore} on the reactive Postgres client. Hibernate Reactive cannot run next
+ * to Hibernate ORM in this Quarkus version, so this reads the {@code warehouse} table with plain SQL.
+ */
+@ApplicationScoped
+public class ReactiveWarehouseRepository implements ReactiveWarehouseStore {
+
+  private static final int PAGE_SIZE = 500;
+
+  private static final String COLUMNS = "id, businessUnitCode, location, capacity, stock, createdAt, archivedAt";
+
+  @Inject PgPool client;
+
+  @Override
+  public Multi<Warehouse> getAll() {
+    // keyset paging: each page starts after the last id of the previous one
+    return Multi.createBy().repeating()
+        .uni(() -> new AtomicLong(Long.MIN_VALUE), lastId -> findPage(lastId.get()).invoke(page -> {
+          if (page.size() > 0) {
+            lastId.set(last(page).getLong(0));
+          }
+        }))
+        .whilst(page -> page.size() == PAGE_SIZE)
+        .onItem().transformToIterable(ReactiveWarehouseRepository::toWarehouses);
+  }
+
+  @Override
+  public Uni<Warehouse> findByBusinessUnitCode(String buCode) {
+    return client.preparedQuery("SELECT " + COLUMNS + " FROM warehouse WHERE businessUnitCode = $1")
+        .execute(Tuple.of(buCode))
+        .map(rows -> {
+          if (rows.size() == 0) {
+            throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
+          }
+          return toWarehouse(rows.iterator().next());
+        });
+  }
+
+  private Uni<RowSet<Row>> findPage(long afterId) {
+    return client.preparedQuery("SELECT " + COLUMNS + " FROM warehouse WHERE id > $1 ORDER BY id LIMIT $2")
+        .execute(Tuple.of(afterId, PAGE_SIZE));
+  }
+
+  private static Row last(RowSet<Row> page) {
+    Row last = null;
+    for (Row row : page) {
+      last = row;
+    }
+    return last;
+  }
+
+  private static List<Warehouse> toWarehouses(RowSet<Row> page) {
+    List<Warehouse> warehouses = new ArrayList<>(page.size());
+    for (Row row : page) {
+      warehouses.add(toWarehouse(row));
+    }
+    return warehouses;
+  }
+
+  private static Warehouse toWarehouse(Row row) {
+    return new Warehouse(row.getString(1), row.getString(2), row.getInteger(3), row.getInteger(4),
+        row.getLocalDateTime(5), row.getLocalDateTime(6));
+  }
+}
@@ -0,0 +1,215 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.execution.BlockingWork;
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseChange;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Change feed of the warehouse table. {@link WarehouseRepository} records every create, update and
+ * archive in {@code warehouse_change}, in the same transaction; once that transaction commits the
+ * change also goes into an in-memory {@link ChangeRing}. Consumers read the changes after a sequence
+ * number of their choice: recent offsets are answered from the ring, older ones from the table.
+ *
+ * <p>Waiting consumers do not poll. They all wait on one shared future that the next commit
+ * completes and replaces, so a single publish wakes every subscriber at once.
+ *
+ * <p>Sequence numbers are handed out on insert, so two transactions can commit in the opposite
+ * order. The feed therefore only serves changes up to the lowest number still in flight: a change
+ * that committed is held back until every lower number has committed or rolled back. Once a
+ * consumer has seen a number, no lower one can show up later, and resuming from the last number
+ * received is safe.
+ *
+ * <p>Numbers in flight are only known for this node, and the ring only receives changes committed
+ * here. The feed is meant for a single application node; with several nodes writing warehouses,
+ * consumers can miss changes another node commits out of order.
+ */
+@ApplicationScoped
+public class WarehouseChangeFeed {
+
+  @Inject WarehouseChangeRepository warehouseChangeRepository;
+  @Inject TransactionSynchronizationRegistry transactionRegistry;
+  @Inject BlockingWork blockingWork;
+
+  @ConfigProperty(name = "warehouse.changes.buffer-size", defaultValue = "4096")
+  int bufferSize;
+
+  @ConfigProperty(name = "warehouse.changes.batch-size", defaultValue = "500")
+  int batchSize;
+
+  @ConfigProperty(name = "warehouse.changes.poll-timeout", defaultValue = "30s")
+  Duration pollTimeout;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // numbers are taken under this lock, so every lower number of this node is already in flight
+  private final ReentrantLock numbering = new ReentrantLock();
+  private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+  private ChangeRing ring;
+  private long highestCompleted;
+  private long visibleUpTo = Long.MAX_VALUE;
+  private CompletableFuture<Void> nextChange = new CompletableFuture<>();
+
+  @PostConstruct
+  void init() {
+    // covers nothing until the start-up reset: until then reads go to the database
+    ring = new ChangeRing(bufferSize, Long.MAX_VALUE);
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    coverFrom(QuarkusTransaction.requiringNew().call(warehouseChangeRepository::lastSequence));
+  }
+
+  /** Serves changes numbered above {@code last} from memory from now on. */
+  void coverFrom(long last) {
+    lock.writeLock().lock();
+    try {
+      ring.reset(last);
+      highestCompleted = last;
+      visibleUpTo = last;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Writes the change in the current transaction and publishes it when that commits. */
+  void record(WarehouseChange.Type type, DbWarehouse warehouse) {
+    DbWarehouseChange change = DbWarehouseChange.of(type, warehouse);
+    numbering.lock();
+    try {
+      warehouseChangeRepository.persist(change);
+      allocated(change.sequence);
+    } finally {
+      numbering.unlock();
+    }
+    long sequence = change.sequence;
+    if (transactionRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+      transactionRegistry.registerInterposedSynchronization(
+          new AfterCompletion(() -> publish(change.toChange()), () -> discard(sequence)));
+    } else {
+      discard(sequence);
+    }
+  }
+
+  /** Holds back every change numbered above {@code sequence} until it commits or rolls back. */
+  void allocated(long sequence) {
+    inFlight.add(sequence);
+  }
+
+  void publish(WarehouseChange change) {
+    complete(change.getSequence(), change);
+  }
+
+  void discard(long sequence) {
+    complete(sequence, null);
+  }
+
+  private void complete(long sequence, WarehouseChange change) {
+    CompletableFuture<Void> waiting = null;
+    lock.writeLock().lock();
+    try {
+      if (change != null) {
+        ring.add(change);
+      }
+      inFlight.remove(sequence);
+      highestCompleted = Math.max(highestCompleted, sequence);
+      // numbers taken later are all above highestCompleted, so a concurrent allocation cannot lower it
+      long visible = inFlight.isEmpty() ? highestCompleted : Math.min(highestCompleted, inFlight.first() - 1);
+      if (visible > visibleUpTo) {
+        visibleUpTo = visible;
+        waiting = nextChange;
+        nextChange = new CompletableFuture<>();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+    if (waiting != null) {
+      waiting.complete(null);
+    }
+  }
+
+  /**
+   * Changes numbered above {@code after}, at most {@code limit} of them. When there are none yet,
+   * waits up to {@code wait} for the next commit and returns an empty list if nothing came.
+   */
+  public Uni<List<WarehouseChange>> poll(long after, int limit, Duration wait) {
+    return Uni.createFrom().deferred(() -> {
+      CompletableFuture<Void> signal;
+      List<WarehouseChange> changes;
+      long upTo;
+      lock.readLock().lock();
+      try {
+        // taken before reading, so a commit in between still wakes us up
+        signal = nextChange;
+        upTo = visibleUpTo;
+        changes = ring.after(after, upTo, limit);
+      } finally {
+        lock.readLock().unlock();
+      }
+      if (changes == null) {
+        return blockingWork.inTransaction(() -> warehouseChangeRepository.findAfter(after, upTo, limit));
+      }
+      if (!changes.isEmpty() || wait.isZero() || wait.isNegative()) {
+        return Uni.createFrom().item(changes);
+      }
+      return Uni.createFrom().completionStage(signal)
+          .ifNoItem().after(wait).recoverWithItem((Void) null)
+          // continue off the committing thread, which completed the signal
+          .emitOn(Infrastructure.getDefaultWorkerPool())
+          .chain(() -> poll(after, limit, Duration.ZERO));
+    });
+  }
+
+  /** Every change numbered above {@code after}, followed by the ones still to come. */
+  public Multi<WarehouseChange> stream(long after) {
+    AtomicLong cursor = new AtomicLong(after);
+    return Multi.createBy().repeating()
+        .uni(() -> poll(cursor.get(), batchSize, pollTimeout)
+            .invoke(changes -> {
+              if (!changes.isEmpty()) {
+                cursor.set(changes.get(changes.size() - 1).getSequence());
+              }
+            }))
+        .indefinitely()
+        .onItem().<WarehouseChange>disjoint();
+  }
+
+  private static final class AfterCompletion implements Synchronization {
+    private final Runnable committed;
+    private final Runnable rolledBack;
+
+    private AfterCompletion(Runnable committed, Runnable rolledBack) {
+      this.committed = committed;
+      this.rolledBack = rolledBack;
+    }
+
+    @Override
+    public void beforeCompletion() {}
+
+    @Override
+    public void afterCompletion(int status) {
+      if (status == Status.STATUS_COMMITTED) {
+        committed.run();
+      } else {
+        rolledBack.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseChange;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+
+@ApplicationScoped
+public class WarehouseChangeRepository implements PanacheRepository<DbWarehouseChange> {
+
+  /** Up to {@code limit} changes numbered above {@code sequence} and at most {@code upTo}, in sequence order. */
+  public List<WarehouseChange> findAfter(long sequence, long upTo, int limit) {
+    return find("sequence > ?1 and sequence <= ?2", Sort.by("sequence"), sequence, upTo)
+        .page(Page.ofSize(limit))
+        .stream()
+        .map(DbWarehouseChange::toChange)
+        .toList();
+  }
+
+  public long lastSequence() {
+    Long last = getEntityManager()
+        .createQuery("select max(c.sequence) from DbWarehouseChange c", Long.class)
+        .getSingleResult();
+    return last != null ? last : 0L;
+  }
+}
@@ -0,0 +1,15 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+
+@ApplicationScoped
+public class WarehouseHistoryRepository implements PanacheRepository<DbWarehouseHistory> {
+
+  /** The archived units that held the business unit code, in archiving order. */
+  public List<DbWarehouseHistory> findByBusinessUnitCode(String buCode) {
+    return find("businessUnitCode", Sort.by("archivedAt"), buCode).list();
+  }
+}
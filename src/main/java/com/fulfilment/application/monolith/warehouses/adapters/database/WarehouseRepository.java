@@ -1,11 +1,29 @@
 package com.fulfilment.application.monolith.warehouses.adapters.database;
 
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseChange;
 import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.runtime.StartupEvent;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 import jakarta.inject.Inject;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.jpa.HibernateHints;
 import com.fulfilment.application.monolith.mapper.WarehouseMapper;
 import com.fulfilment.application.monolith.exceptions.ErrorRule;
 import com.fulfilment.application.monolith.exceptions.WarehouseException;
@@ -13,45 +31,190 @@ import com.fulfilment.application.monolith.exceptions.WarehouseException;
 @ApplicationScoped
 public class WarehouseRepository implements WarehouseStore, PanacheRepository<DbWarehouse> {
 
+  private static final int STREAM_FETCH_SIZE = 500;
+
   @Inject
   private WarehouseMapper warehouseMapper;
 
+  @Inject
+  private LocationAggregateIndex locationAggregateIndex;
+
+  @Inject
+  private WarehouseHistoryRepository warehouseHistoryRepository;
+
+  @Inject
+  private WarehouseChangeFeed warehouseChangeFeed;
+
+  void onStart(@Observes StartupEvent event) {
+    QuarkusTransaction.requiringNew().run(this::rebuildLocationAggregates);
+  }
+
+  void rebuildLocationAggregates() {
+    List<Object[]> rows = getEntityManager()
+        .createQuery("select w.location, count(w), sum(w.capacity), sum(w.stock) from DbWarehouse w"
+            + " group by w.location", Object[].class)
+        .getResultList();
+    locationAggregateIndex.reset(rows.stream()
+        .map(row -> new LocationAggregate((String) row[0], toLong(row[1]), toLong(row[2]), toLong(row[3])))
+        .toList());
+  }
+
   @Override
   public List<Warehouse> getAll() {
-    return this.listAll().stream().map(entity -> warehouseMapper.toModel(entity)).toList();
+    // projected straight into the model: no managed entities, snapshots or cache puts per row
+    return getEntityManager()
+        .createQuery("select new " + Warehouse.class.getName() + "(w.businessUnitCode, w.location, w.capacity, w.stock,"
+            + " w.createdAt, w.archivedAt) from DbWarehouse w", Warehouse.class)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultList();
+  }
+
+  /**
+   * Keyset page of warehouses ordered by id, starting after the given id (or from the start when null).
+   * Pages are cached until the warehouse table changes.
+   */
+  public List<DbWarehouse> findPage(Long afterId, int limit) {
+    var query = afterId == null ? findAll(Sort.by("id")) : find("id > ?1", Sort.by("id"), afterId);
+    return query.withHint(HibernateHints.HINT_CACHEABLE, true).page(Page.ofSize(limit)).list();
+  }
+
+  /**
+   * Keyset page of the warehouses matching every non-null filter of the criteria, ordered by id.
+   * Active units come from the warehouse table and archived ones from the history table; ids are
+   * unique across both, so the two pages merge into one.
+   */
+  public List<DbWarehouse> search(WarehouseSearchCriteria criteria, Long afterId, int limit) {
+    List<String> conditions = new ArrayList<>();
+    Map<String, Object> parameters = new HashMap<>();
+
+    if (criteria.getLocation() != null) {
+      conditions.add("location = :location");
+      parameters.put("location", criteria.getLocation());
+    }
+    if (criteria.getMinCapacity() != null) {
+      conditions.add("capacity >= :minCapacity");
+      parameters.put("minCapacity", criteria.getMinCapacity());
+    }
+    if (criteria.getMaxCapacity() != null) {
+      conditions.add("capacity <= :maxCapacity");
+      parameters.put("maxCapacity", criteria.getMaxCapacity());
+    }
+    if (criteria.getMinStock() != null) {
+      conditions.add("stock >= :minStock");
+      parameters.put("minStock", criteria.getMinStock());
+    }
+    if (criteria.getMaxStock() != null) {
+      conditions.add("stock <= :maxStock");
+      parameters.put("maxStock", criteria.getMaxStock());
+    }
+    if (afterId != null) {
+      conditions.add("id > :after");
+      parameters.put("after", afterId);
+    }
+
+    String where = String.join(" and ", conditions);
+    List<DbWarehouse> active = Boolean.TRUE.equals(criteria.getArchived())
+        ? List.of()
+        : (where.isEmpty() ? findAll(Sort.by("id")) : find(where, Sort.by("id"), parameters))
+            .page(Page.ofSize(limit)).list();
+    List<DbWarehouse> archived = Boolean.FALSE.equals(criteria.getArchived())
+        ? List.of()
+        : (where.isEmpty()
+                ? warehouseHistoryRepository.findAll(Sort.by("id"))
+                : warehouseHistoryRepository.find(where, Sort.by("id"), parameters))
+            .page(Page.ofSize(limit)).stream().map(DbWarehouseHistory::toDbWarehouse).toList();
+
+    if (archived.isEmpty()) {
+      return active;
+    }
+    if (active.isEmpty()) {
+      return archived;
+    }
+    return Stream.concat(active.stream(), archived.stream())
+        .sorted(Comparator.comparing(DbWarehouse::getId))
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * Every unit that has held the business unit code: the archived ones in archiving order, then the
+   * active one if there is one.
+   */
+  public List<DbWarehouse> findTimeline(String buCode) {
+    List<DbWarehouse> timeline = new ArrayList<>();
+    for (DbWarehouseHistory archived : warehouseHistoryRepository.findByBusinessUnitCode(buCode)) {
+      timeline.add(archived.toDbWarehouse());
+    }
+    DbWarehouse active = findActiveEntity(buCode);
+    if (active != null) {
+      timeline.add(active);
+    }
+    return timeline;
+  }
+
+  /**
+   * Streams every warehouse ordered by id through a server-side cursor. Must be consumed, and
+   * closed, inside a transaction.
+   */
+  public Stream<DbWarehouse> streamAllOrderedById() {
+    return findAll(Sort.by("id")).withHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE).stream();
   }
 
   @Override
   public void create(Warehouse warehouse) {
     var warehouseEntity = warehouseMapper.toEntity(warehouse);
     this.persist(warehouseEntity);
+    locationAggregateIndex.added(warehouseEntity);
+    warehouseChangeFeed.record(WarehouseChange.Type.CREATED, warehouseEntity);
+  }
+
+  @Override
+  public void createAll(List<Warehouse> warehouses) {
+    // inserts are sent in JDBC batches of quarkus.hibernate-orm.jdbc.statement-batch-size on flush
+    for (Warehouse warehouse : warehouses) {
+      var warehouseEntity = warehouseMapper.toEntity(warehouse);
+      this.persist(warehouseEntity);
+      locationAggregateIndex.added(warehouseEntity);
+      warehouseChangeFeed.record(WarehouseChange.Type.CREATED, warehouseEntity);
+    }
   }
 
   @Override
   public void update(Warehouse warehouse) {
-    DbWarehouse warehouseEntity = find("businessUnitCode", warehouse.getBusinessUnitCode()).firstResult();
+    DbWarehouse warehouseEntity = findActiveEntity(warehouse.getBusinessUnitCode());
     if (warehouseEntity == null) {
       throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
     }
 
+    locationAggregateIndex.removed(warehouseEntity);
     warehouseEntity.setLocation(warehouse.getLocation());
     warehouseEntity.setCapacity(warehouse.getCapacity());
     warehouseEntity.setStock(warehouse.getStock());
     this.persist(warehouseEntity);
+    locationAggregateIndex.added(warehouseEntity);
+    warehouseChangeFeed.record(WarehouseChange.Type.UPDATED, warehouseEntity);
   }
 
+  /** Archives the active warehouse by moving its row to the history table. */
   @Override
   public void remove(Warehouse warehouse) {
-    DbWarehouse warehouseEntity = find("businessUnitCode", warehouse.getBusinessUnitCode()).firstResult();
+    DbWarehouse warehouseEntity = findActiveEntity(warehouse.getBusinessUnitCode());
     if (warehouseEntity == null) {
       throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
     }
+    warehouseHistoryRepository.persist(DbWarehouseHistory.archived(warehouseEntity, LocalDateTime.now()));
     this.delete(warehouseEntity);
+    // Hibernate flushes inserts before deletes; without this a replacement with the same business
+    // unit code in this transaction would hit the unique constraint while the old row still exists
+    this.flush();
+    locationAggregateIndex.removed(warehouseEntity);
+    warehouseChangeFeed.record(WarehouseChange.Type.ARCHIVED, warehouseEntity);
   }
 
   @Override
   public Warehouse findByBusinessUnitCode(String buCode) {
-    DbWarehouse warehouseEntity = find("businessUnitCode = ?1 and archivedAt is null", buCode).firstResult();
+    DbWarehouse warehouseEntity = findActiveEntity(buCode);
     if (warehouseEntity == null) {
       throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
     }
@@ -59,11 +222,55 @@ public class WarehouseRepository implements WarehouseStore, PanacheRepository<Db
   }
 
   @Override
-  public DbWarehouse findById(Long id) {
-    DbWarehouse warehouseEntity = find("id", id).firstResult();
+  public Warehouse findByBusinessUnitCodeForUpdate(String buCode) {
+    DbWarehouse warehouseEntity = getSession()
+        .bySimpleNaturalId(DbWarehouse.class)
+        .with(new LockOptions(LockMode.PESSIMISTIC_WRITE))
+        .load(buCode);
     if (warehouseEntity == null) {
-      throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided id");
+      throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
+    }
+    return warehouseMapper.toModel(warehouseEntity);
+  }
+
+  @Override
+  public boolean existsActiveByBusinessUnitCode(String buCode) {
+    return findActiveEntity(buCode) != null;
+  }
+
+  @Override
+  public Set<String> findActiveBusinessUnitCodes(Collection<String> buCodes) {
+    if (buCodes.isEmpty()) {
+      return Set.of();
     }
-    return warehouseEntity;
+    return Set.copyOf(getEntityManager()
+        .createQuery("select w.businessUnitCode from DbWarehouse w"
+            + " where w.businessUnitCode in :buCodes", String.class)
+        .setParameter("buCodes", buCodes)
+        .getResultList());
+  }
+
+  @Override
+  public DbWarehouse findById(Long id) {
+    // primary key load, served from the persistence context or the second-level cache when possible
+    return findByIdOptional(id)
+        .orElseThrow(() -> new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided id"));
+  }
+
+  @Override
+  public LocationAggregate getLocationAggregate(String location) {
+    return locationAggregateIndex.get(location);
+  }
+
+  /**
+   * Natural-id load of the active warehouse with the given code, or null. Repeated lookups in one
+   * transaction hit the session, and other transactions the natural-id and entity caches, without SQL.
+   */
+  private DbWarehouse findActiveEntity(String buCode) {
+    return getSession().bySimpleNaturalId(DbWarehouse.class).load(buCode);
+  }
+
+  private static long toLong(Object value) {
+    return value != null ? ((Number) value).longValue() : 0L;
   }
 }
@@ -0,0 +1,21 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import lombok.Value;
+
+/** Optional filters for {@link WarehouseRepository#search}; a {@code null} field is not filtered on. */
+@Value
+public class WarehouseSearchCriteria {
+
+  String location;
+
+  // true: archived units only, false: active units only
+  Boolean archived;
+
+  Integer minCapacity;
+
+  Integer maxCapacity;
+
+  Integer minStock;
+
+  Integer maxStock;
+}
@@ -0,0 +1,323 @@
+package com.fulfilment.application.monolith.warehouses.adapters.memory;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseRepository;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * {@link WarehouseStore} kept entirely in memory, for cache and edge nodes that mostly read. Selected
+ * with {@code warehouse.store.type=in-memory} at runtime by {@link WarehouseStoreSelector}, it then
+ * replaces {@link WarehouseRepository} behind the port; the repository stays the source it is
+ * hydrated from and, through {@link WarehouseWriteBehind}, the place changes are eventually written
+ * back to.
+ *
+ * <p>Point lookups read the concurrent indexes without locking. Writers serialise on a write lock,
+ * so {@link #getAll()} and {@link #findByLocation(String)} copy a snapshot no write is halfway
+ * through. Warehouses are copied on the way in and out; callers never share the stored instances.
+ *
+ * <p>{@link #findByBusinessUnitCodeForUpdate(String)} takes a per-code lock that the surrounding
+ * transaction holds until it ends. Updates to warehouses locked that way are kept aside and applied
+ * together, under the write lock, once the transaction commits, or dropped when it rolls back; so a
+ * stock transfer moves the units completely or not at all. Plain updates and removals wait for the
+ * lock of their code, so they never interleave with such a transaction. Callers locking several
+ * codes take them in one global order, as {@code TransferStockUseCase} does.
+ */
+// only reachable through the selector, never as a WarehouseStore candidate of its own
+@Typed(InMemoryWarehouseStore.class)
+@ApplicationScoped
+public class InMemoryWarehouseStore implements WarehouseStore {
+
+  private static final Logger LOGGER = Logger.getLogger(InMemoryWarehouseStore.class.getName());
+
+  // primary index
+  private final Map<String, Warehouse> byBuCode = new ConcurrentHashMap<>();
+  // secondary index, location -> business unit code -> warehouse
+  private final Map<String, Map<String, Warehouse>> byLocation = new ConcurrentHashMap<>();
+  private final Map<String, LocationAggregate> aggregates = new ConcurrentHashMap<>();
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // per business unit code; a semaphore, as the transaction may end on another thread than it began
+  private final Map<String, Semaphore> codeLocks = new ConcurrentHashMap<>();
+
+  @Inject WarehouseRepository warehouseRepository;
+  @Inject WarehouseWriteBehind writeBehind;
+  @Inject TransactionSynchronizationRegistry transactionRegistry;
+
+  @ConfigProperty(name = "warehouse.store.hydrate", defaultValue = "true")
+  boolean hydrate;
+
+  // called by the selector on start-up, when this store is the selected one
+  void hydrate() {
+    if (hydrate) {
+      int loaded = QuarkusTransaction.requiringNew().call(this::load);
+      LOGGER.infov("Loaded {0} warehouses into the in-memory store", loaded);
+    }
+  }
+
+  int load() {
+    lock.writeLock().lock();
+    try (var rows = warehouseRepository.streamAllOrderedById()) {
+      rows.forEach(row -> index(row.toWarehouse()));
+      return byBuCode.size();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public List<Warehouse> getAll() {
+    lock.readLock().lock();
+    try {
+      return byBuCode.values().stream().map(InMemoryWarehouseStore::copy).toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Snapshot of the warehouses at the given location. */
+  public List<Warehouse> findByLocation(String location) {
+    lock.readLock().lock();
+    try {
+      return byLocation.getOrDefault(location, Map.of()).values().stream().map(InMemoryWarehouseStore::copy).toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void create(Warehouse warehouse) {
+    createAll(List.of(warehouse));
+  }
+
+  /** Adds all warehouses or, when any business unit code is taken, none of them. */
+  @Override
+  public void createAll(List<Warehouse> warehouses) {
+    lock.writeLock().lock();
+    try {
+      Set<String> buCodes = new HashSet<>();
+      for (Warehouse warehouse : warehouses) {
+        // the database adapter reports the same through its unique constraint
+        if (byBuCode.containsKey(warehouse.getBusinessUnitCode()) || !buCodes.add(warehouse.getBusinessUnitCode())) {
+          throw new WarehouseException(ErrorRule.CONCURRENT_MODIFICATION);
+        }
+      }
+      for (Warehouse warehouse : warehouses) {
+        Warehouse stored = copy(warehouse);
+        index(stored);
+        writeBehind.created(copy(stored));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void update(Warehouse warehouse) {
+    String buCode = warehouse.getBusinessUnitCode();
+    TransactionLocks transaction = transactionLocks(false);
+    if (transaction != null && transaction.codes.contains(buCode)) {
+      findByBusinessUnitCode(buCode);
+      transaction.updates.put(buCode, copy(warehouse));
+      return;
+    }
+    Semaphore codeLock = codeLock(buCode);
+    codeLock.acquireUninterruptibly();
+    try {
+      apply(List.of(warehouse));
+    } finally {
+      codeLock.release();
+    }
+  }
+
+  @Override
+  public void remove(Warehouse warehouse) {
+    String buCode = warehouse.getBusinessUnitCode();
+    TransactionLocks transaction = transactionLocks(false);
+    boolean held = transaction != null && transaction.codes.contains(buCode);
+    if (held) {
+      transaction.updates.remove(buCode);
+    } else {
+      codeLock(buCode).acquireUninterruptibly();
+    }
+    lock.writeLock().lock();
+    try {
+      writeBehind.removed(copy(unindex(buCode)));
+    } finally {
+      lock.writeLock().unlock();
+      if (!held) {
+        codeLock(buCode).release();
+      }
+    }
+  }
+
+  /**
+   * Replaces the stored warehouse with the state the database holds, or forgets it when the
+   * database has none. Skipped while a newer change of the warehouse is still queued: that one
+   * carries the whole state and is written after the rejected one.
+   */
+  void resync(String buCode, Warehouse stored) {
+    lock.writeLock().lock();
+    try {
+      if (writeBehind.hasPendingChange(buCode)) {
+        return;
+      }
+      if (byBuCode.containsKey(buCode)) {
+        unindex(buCode);
+      }
+      if (stored != null) {
+        index(copy(stored));
+      }
+      LOGGER.infov("Reloaded warehouse {0} from the database", buCode);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Locks the warehouse until the surrounding transaction ends. Without an active transaction
+   * there is nothing to hold the lock for, and this is a plain lookup.
+   */
+  @Override
+  public Warehouse findByBusinessUnitCodeForUpdate(String buCode) {
+    TransactionLocks transaction = transactionLocks(true);
+    if (transaction != null && !transaction.codes.contains(buCode)) {
+      codeLock(buCode).acquireUninterruptibly();
+      transaction.codes.add(buCode);
+    }
+    return findByBusinessUnitCode(buCode);
+  }
+
+  @Override
+  public Warehouse findByBusinessUnitCode(String buCode) {
+    Warehouse warehouse = byBuCode.get(buCode);
+    if (warehouse == null) {
+      throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
+    }
+    return copy(warehouse);
+  }
+
+  @Override
+  public boolean existsActiveByBusinessUnitCode(String buCode) {
+    return byBuCode.containsKey(buCode);
+  }
+
+  @Override
+  public Set<String> findActiveBusinessUnitCodes(Collection<String> buCodes) {
+    return buCodes.stream().filter(byBuCode::containsKey).collect(Collectors.toUnmodifiableSet());
+  }
+
+  @Override
+  public LocationAggregate getLocationAggregate(String location) {
+    return aggregates.getOrDefault(location, LocationAggregate.empty(location));
+  }
+
+  private void apply(Collection<Warehouse> warehouses) {
+    lock.writeLock().lock();
+    try {
+      for (Warehouse warehouse : warehouses) {
+        Warehouse existing = unindex(warehouse.getBusinessUnitCode());
+        Warehouse updated = copy(existing);
+        updated.setLocation(warehouse.getLocation());
+        updated.setCapacity(warehouse.getCapacity());
+        updated.setStock(warehouse.getStock());
+        index(updated);
+        writeBehind.updated(copy(updated));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private Semaphore codeLock(String buCode) {
+    return codeLocks.computeIfAbsent(buCode, code -> new Semaphore(1));
+  }
+
+  // the locks of the current transaction, registered with it on first use; null outside a transaction
+  private TransactionLocks transactionLocks(boolean create) {
+    if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+      return null;
+    }
+    var transaction = (TransactionLocks) transactionRegistry.getResource(this);
+    if (transaction == null && create) {
+      transaction = new TransactionLocks();
+      transactionRegistry.putResource(this, transaction);
+      transactionRegistry.registerInterposedSynchronization(transaction);
+    }
+    return transaction;
+  }
+
+  private final class TransactionLocks implements Synchronization {
+    private final Set<String> codes = new HashSet<>();
+    private final Map<String, Warehouse> updates = new LinkedHashMap<>();
+
+    @Override
+    public void beforeCompletion() {}
+
+    @Override
+    public void afterCompletion(int status) {
+      try {
+        // the codes are still locked, so every updated warehouse is still there
+        if (status == Status.STATUS_COMMITTED && !updates.isEmpty()) {
+          apply(updates.values());
+        }
+      } finally {
+        codes.forEach(code -> codeLock(code).release());
+      }
+    }
+  }
+
+  // callers hold the write lock
+  private void index(Warehouse warehouse) {
+    byBuCode.put(warehouse.getBusinessUnitCode(), warehouse);
+    byLocation.computeIfAbsent(warehouse.getLocation(), location -> new ConcurrentHashMap<>())
+        .put(warehouse.getBusinessUnitCode(), warehouse);
+    aggregates.compute(warehouse.getLocation(), (location, aggregate) ->
+        (aggregate == null ? LocationAggregate.empty(location) : aggregate)
+            .plus(1, warehouse.getCapacity(), warehouse.getStock()));
+  }
+
+  // callers hold the write lock
+  private Warehouse unindex(String buCode) {
+    Warehouse warehouse = byBuCode.remove(buCode);
+    if (warehouse == null) {
+      throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
+    }
+    Map<String, Warehouse> atLocation = byLocation.get(warehouse.getLocation());
+    atLocation.remove(buCode);
+    if (atLocation.isEmpty()) {
+      byLocation.remove(warehouse.getLocation());
+    }
+    aggregates.computeIfPresent(warehouse.getLocation(), (location, aggregate) -> {
+      var remaining = aggregate.plus(-1, -warehouse.getCapacity(), -warehouse.getStock());
+      return remaining.getActiveWarehouses() == 0 ? null : remaining;
+    });
+    return warehouse;
+  }
+
+  private static Warehouse copy(Warehouse warehouse) {
+    return new Warehouse(warehouse.getBusinessUnitCode(), warehouse.getLocation(), warehouse.getCapacity(),
+        warehouse.getStock(), warehouse.getCreatedAt(), warehouse.getArchivedAt());
+  }
+}
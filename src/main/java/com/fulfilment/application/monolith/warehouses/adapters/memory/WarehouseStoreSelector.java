@@ -0,0 +1,49 @@
+package com.fulfilment.application.monolith.warehouses.adapters.memory;
+
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseRepository;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Picks the {@link WarehouseStore} behind the domain from {@code warehouse.store.type} at runtime:
+ * {@code database} (the default) serves the port from {@link WarehouseRepository},
+ * {@code in-memory} from the {@link InMemoryWarehouseStore}, which is only created and hydrated
+ * when selected.
+ */
+@ApplicationScoped
+public class WarehouseStoreSelector {
+
+  static final String IN_MEMORY = "in-memory";
+
+  @ConfigProperty(name = "warehouse.store.type", defaultValue = "database")
+  String storeType;
+
+  @Inject WarehouseRepository warehouseRepository;
+  @Inject Instance<InMemoryWarehouseStore> inMemoryWarehouseStore;
+
+  @Produces
+  @Alternative
+  @Priority(1)
+  @ApplicationScoped
+  WarehouseStore warehouseStore() {
+    return inMemory() ? inMemoryWarehouseStore.get() : warehouseRepository;
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    if (inMemory()) {
+      inMemoryWarehouseStore.get().hydrate();
+    }
+  }
+
+  private boolean inMemory() {
+    return IN_MEMORY.equals(storeType);
+  }
+}
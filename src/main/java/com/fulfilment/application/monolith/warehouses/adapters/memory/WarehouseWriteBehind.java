@@ -0,0 +1,158 @@
+package com.fulfilment.application.monolith.warehouses.adapters.memory;
+
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseRepository;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Writes the changes made to the {@link InMemoryWarehouseStore} back to the database, in the order
+ * they were made. A batch is applied in one transaction; when that fails, its changes are applied
+ * one by one. When the database rejects the last change of a warehouse, that warehouse is reloaded
+ * from the database into the store, so memory does not keep a state the database never took.
+ * Whatever is still queued is written on shutdown.
+ */
+@ApplicationScoped
+public class WarehouseWriteBehind {
+
+  private static final Logger LOGGER = Logger.getLogger(WarehouseWriteBehind.class.getName());
+
+  enum Type { CREATED, UPDATED, REMOVED }
+
+  record Change(Type type, Warehouse warehouse) {}
+
+  private final Queue<Change> pending = new ConcurrentLinkedQueue<>();
+
+  // flushes run one at a time, or a shutdown flush could overtake a scheduled one
+  private final ReentrantLock flushing = new ReentrantLock();
+
+  @Inject WarehouseRepository warehouseRepository;
+  @Inject InMemoryWarehouseStore store;
+
+  @ConfigProperty(name = "warehouse.store.write-behind.enabled", defaultValue = "true")
+  boolean enabled;
+
+  @ConfigProperty(name = "warehouse.store.write-behind.batch-size", defaultValue = "500")
+  int batchSize;
+
+  // the store calls these under its write lock, so the queue holds the changes in store order
+  void created(Warehouse warehouse) {
+    enqueue(Type.CREATED, warehouse);
+  }
+
+  void updated(Warehouse warehouse) {
+    enqueue(Type.UPDATED, warehouse);
+  }
+
+  void removed(Warehouse warehouse) {
+    enqueue(Type.REMOVED, warehouse);
+  }
+
+  private void enqueue(Type type, Warehouse warehouse) {
+    if (enabled) {
+      pending.add(new Change(type, warehouse));
+    }
+  }
+
+  int pendingChanges() {
+    return pending.size();
+  }
+
+  boolean hasPendingChange(String buCode) {
+    return pending.stream().anyMatch(change -> change.warehouse().getBusinessUnitCode().equals(buCode));
+  }
+
+  /**
+   * Writes what is queued now before returning, so a database read that follows sees every change
+   * the store has accepted. Returns at once when nothing is queued, as always with the database store.
+   */
+  public void awaitWritten() {
+    if (!pending.isEmpty()) {
+      flush();
+    }
+  }
+
+  @Scheduled(every = "${warehouse.store.write-behind.interval:1s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+  void flush() {
+    flushing.lock();
+    try {
+      List<Change> batch;
+      while (!(batch = nextBatch()).isEmpty()) {
+        write(batch);
+      }
+    } finally {
+      flushing.unlock();
+    }
+  }
+
+  void onStop(@Observes ShutdownEvent event) {
+    if (!pending.isEmpty()) {
+      LOGGER.infov("Writing {0} queued warehouse changes before shutdown", pending.size());
+      flush();
+    }
+  }
+
+  private List<Change> nextBatch() {
+    List<Change> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+    Change change;
+    while (batch.size() < batchSize && (change = pending.poll()) != null) {
+      batch.add(change);
+    }
+    return batch;
+  }
+
+  private void write(List<Change> batch) {
+    try {
+      QuarkusTransaction.requiringNew().run(() -> batch.forEach(this::apply));
+    } catch (RuntimeException batchFailure) {
+      // per warehouse, whether its latest change in the batch was rejected
+      Map<String, Boolean> rejected = new LinkedHashMap<>();
+      for (Change change : batch) {
+        String buCode = change.warehouse().getBusinessUnitCode();
+        try {
+          QuarkusTransaction.requiringNew().run(() -> apply(change));
+          rejected.put(buCode, false);
+        } catch (RuntimeException e) {
+          LOGGER.warnv(e, "The database rejected {0} of warehouse {1}", change.type(), buCode);
+          rejected.put(buCode, true);
+        }
+      }
+      rejected.forEach((buCode, lastRejected) -> {
+        if (lastRejected) {
+          reload(buCode);
+        }
+      });
+    }
+  }
+
+  private void reload(String buCode) {
+    try {
+      Warehouse stored = QuarkusTransaction.requiringNew().call(() ->
+          warehouseRepository.existsActiveByBusinessUnitCode(buCode) ? warehouseRepository.findByBusinessUnitCode(buCode) : null);
+      store.resync(buCode, stored);
+    } catch (RuntimeException e) {
+      LOGGER.errorv(e, "Could not reload warehouse {0}, the in-memory store may differ from the database", buCode);
+    }
+  }
+
+  private void apply(Change change) {
+    switch (change.type()) {
+      case CREATED -> warehouseRepository.create(change.warehouse());
+      case UPDATED -> warehouseRepository.update(change.warehouse());
+      case REMOVED -> warehouseRepository.remove(change.warehouse());
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.fulfilment.application.monolith.warehouses.adapters.metrics;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Counts the {@link com.fulfilment.application.monolith.exceptions.WarehouseException}s leaving the
+ * annotated methods in {@code warehouse.rejections}, tagged with their error rule. Client errors
+ * thrown as plain {@code WebApplicationException}s are counted too, under the rule {@code NONE}.
+ */
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface CountedRejections {}
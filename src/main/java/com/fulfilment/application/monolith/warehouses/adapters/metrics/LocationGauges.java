@@ -0,0 +1,58 @@
+package com.fulfilment.application.monolith.warehouses.adapters.metrics;
+
+import com.fulfilment.application.monolith.location.LocationGateway;
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-location gauges for the number of active warehouses and for how much of their summed capacity
+ * is taken by stock. Locations come from the catalogue, which is bounded, so the {@code location}
+ * tag stays low-cardinality. The rows are rebuilt on a schedule rather than on every scrape, and
+ * from the store's in-memory aggregates, so a scrape never reaches the database.
+ */
+@ApplicationScoped
+public class LocationGauges {
+
+  private final LocationGateway locationGateway;
+  private final WarehouseStore warehouseStore;
+  private final MultiGauge activeWarehouses;
+  private final MultiGauge capacityUtilisation;
+
+  public LocationGauges(LocationGateway locationGateway, WarehouseStore warehouseStore, MeterRegistry registry) {
+    this.locationGateway = locationGateway;
+    this.warehouseStore = warehouseStore;
+    this.activeWarehouses = MultiGauge.builder("warehouse.location.active")
+        .description("Active warehouses per location")
+        .register(registry);
+    this.capacityUtilisation = MultiGauge.builder("warehouse.location.capacity.utilisation")
+        .description("Stock held by the active warehouses of a location, as a fraction of their capacity")
+        .register(registry);
+  }
+
+  @Scheduled(every = "${warehouse.metrics.location-refresh-interval:15s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+  void refresh() {
+    List<MultiGauge.Row<?>> active = new ArrayList<>();
+    List<MultiGauge.Row<?>> utilisation = new ArrayList<>();
+    for (Location location : locationGateway.allLocations()) {
+      LocationAggregate aggregate = warehouseStore.getLocationAggregate(location.getIdentification());
+      Tags tags = Tags.of("location", location.getIdentification());
+      active.add(MultiGauge.Row.of(tags, aggregate.getActiveWarehouses()));
+      utilisation.add(MultiGauge.Row.of(tags, utilisation(aggregate)));
+    }
+    // overwrite, so locations dropped by a catalogue reload disappear as well
+    activeWarehouses.register(active, true);
+    capacityUtilisation.register(utilisation, true);
+  }
+
+  static double utilisation(LocationAggregate aggregate) {
+    return aggregate.getTotalCapacity() == 0 ? 0 : (double) aggregate.getTotalStock() / aggregate.getTotalCapacity();
+  }
+}
@@ -0,0 +1,67 @@
+package com.fulfilment.application.monolith.warehouses.adapters.metrics;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.WebApplicationException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@CountedRejections
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class RejectionCountingInterceptor {
+
+  private static final String DESCRIPTION = "Warehouse requests rejected by a business rule or an invalid request";
+
+  // tag of rejections that are not a business rule, such as a missing body or an invalid parameter
+  static final String NO_RULE = "NONE";
+
+  // one counter per rule, registered up front so that a rule nobody has hit yet shows up as 0
+  private final Map<ErrorRule, Counter> counters = new EnumMap<>(ErrorRule.class);
+  private final Map<Integer, Counter> otherCounters = new ConcurrentHashMap<>();
+  private final MeterRegistry registry;
+
+  @Inject
+  public RejectionCountingInterceptor(MeterRegistry registry) {
+    this.registry = registry;
+    for (ErrorRule rule : ErrorRule.values()) {
+      counters.put(rule, Counter.builder("warehouse.rejections")
+          .description(DESCRIPTION)
+          .tag("rule", rule.name())
+          .tag("status", String.valueOf(rule.getHttpStatus().getStatusCode()))
+          .register(registry));
+    }
+  }
+
+  @AroundInvoke
+  Object count(InvocationContext context) throws Exception {
+    try {
+      return context.proceed();
+    } catch (WarehouseException e) {
+      counters.get(e.getErrorRule()).increment();
+      throw e;
+    } catch (WebApplicationException e) {
+      int status = e.getResponse().getStatus();
+      if (status >= 400 && status < 500) {
+        otherCounters.computeIfAbsent(status, this::otherCounter).increment();
+      }
+      throw e;
+    }
+  }
+
+  private Counter otherCounter(int status) {
+    return Counter.builder("warehouse.rejections")
+        .description(DESCRIPTION)
+        .tag("rule", NO_RULE)
+        .tag("status", String.valueOf(status))
+        .register(registry);
+  }
+}
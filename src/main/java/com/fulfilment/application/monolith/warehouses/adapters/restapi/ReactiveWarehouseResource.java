@@ -0,0 +1,54 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fulfilment.application.monolith.mapper.WarehouseMapper;
+import com.fulfilment.application.monolith.warehouses.domain.ports.ReactiveWarehouseStore;
+import com.warehouse.api.beans.Warehouse;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+/**
+ * Non-blocking variants of the warehouse reads. They run on the event loop and hold no worker
+ * thread or JDBC connection while the database answers.
+ */
+@Path("reactive/warehouse")
+@ApplicationScoped
+public class ReactiveWarehouseResource {
+
+  @Inject ReactiveWarehouseStore reactiveWarehouseStore;
+  @Inject WarehouseMapper warehouseMapper;
+
+  @GET
+  @Produces(WarehouseStreamResource.NDJSON)
+  @RestStreamElementType(MediaType.APPLICATION_JSON)
+  @Operation(summary = "Stream all warehouse units", description = "Streams every active warehouse unit as newline-delimited JSON, without blocking a worker thread. Unlike the other listings, the units carry no id.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Warehouse units streamed")
+  })
+  public Multi<Warehouse> streamAll() {
+    return reactiveWarehouseStore.getAll().map(warehouseMapper::toResponse);
+  }
+
+  @GET
+  @Path("{businessUnitCode}")
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(summary = "Find warehouse unit by business unit code", description = "Retrieves the active warehouse unit using the business unit code, without blocking a worker thread.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Warehouse unit found"),
+          @APIResponse(responseCode = "404", description = "No active warehouse unit uses the business unit code")
+  })
+  public Uni<Warehouse> getByBusinessUnitCode(
+          @Parameter(description = "Business unit code of the warehouse unit", required = true) String businessUnitCode) {
+    return reactiveWarehouseStore.findByBusinessUnitCode(businessUnitCode).map(warehouseMapper::toResponse);
+  }
+}
@@ -0,0 +1,118 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.mapper.WarehouseMapper;
+import com.fulfilment.application.monolith.warehouses.adapters.metrics.CountedRejections;
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseImportResult;
+import com.fulfilment.application.monolith.warehouses.domain.ports.BulkCreateWarehouseOperation;
+import com.fulfilment.application.monolith.warehouses.domain.ports.TransactionRunner;
+import com.warehouse.api.beans.Warehouse;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.CONCURRENT_MODIFICATION;
+
+@Path("warehouse/bulk")
+@CountedRejections
+@ApplicationScoped
+@Produces("application/json")
+public class WarehouseBulkResource {
+
+  static final int MAX_CHUNK_ATTEMPTS = 2;
+
+  @Inject BulkCreateWarehouseOperation bulkCreateWarehouseOperation;
+  @Inject WarehouseMapper warehouseMapper;
+  @Inject ObjectMapper objectMapper;
+  @Inject TransactionRunner transactionRunner;
+
+  @ConfigProperty(name = "warehouse.bulk.chunk-size", defaultValue = "500")
+  int chunkSize;
+
+  @POST
+  @Consumes("application/json")
+  @Operation(summary = "Create warehouse units in bulk", description = "Validates and creates a JSON array of warehouse units, committing them in chunks. Invalid units are reported and skipped.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Per-unit import report, in request order")
+  })
+  public List<WarehouseImportItem> importWarehouses(List<Warehouse> data) {
+    if (data == null) {
+      throw new WebApplicationException("Request body is not provided", 400);
+    }
+    List<WarehouseImportItem> report = new ArrayList<>(data.size());
+    for (int from = 0; from < data.size(); from += chunkSize) {
+      importChunk(data.subList(from, Math.min(from + chunkSize, data.size())), report);
+    }
+    return report;
+  }
+
+  @POST
+  @Consumes(WarehouseStreamResource.NDJSON)
+  @Operation(summary = "Create warehouse units in bulk from a stream", description = "Same as the JSON array import, but reads one warehouse unit per line and imports each chunk as soon as it has been read.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Per-unit import report, in request order")
+  })
+  public List<WarehouseImportItem> importWarehouseStream(InputStream body) throws IOException {
+    List<WarehouseImportItem> report = new ArrayList<>();
+    List<Warehouse> chunk = new ArrayList<>(chunkSize);
+    try (MappingIterator<Warehouse> lines = objectMapper.readerFor(Warehouse.class).readValues(body)) {
+      while (lines.hasNextValue()) {
+        chunk.add(lines.nextValue());
+        if (chunk.size() == chunkSize) {
+          importChunk(chunk, report);
+          chunk.clear();
+        }
+      }
+    }
+    if (!chunk.isEmpty()) {
+      importChunk(chunk, report);
+    }
+    return report;
+  }
+
+  // Each chunk commits on its own so a large import neither holds one huge transaction nor loses
+  // the chunks already written when a later one fails.
+  private void importChunk(List<Warehouse> chunk, List<WarehouseImportItem> report) {
+    var models = chunk.stream().map(warehouseMapper::toModel).toList();
+    for (WarehouseImportResult result : createChunk(models)) {
+      report.add(new WarehouseImportItem(report.size(), result.getBusinessUnitCode(), result.isCreated(), result.getStatus(), result.getMessage()));
+    }
+  }
+
+  // A chunk that loses a race for a business unit code rolls back as a whole; it is validated
+  // again once, which reports the taken code against its unit, and otherwise every unit is a 409.
+  private List<WarehouseImportResult> createChunk(List<com.fulfilment.application.monolith.warehouses.domain.models.Warehouse> models) {
+    AtomicReference<List<WarehouseImportResult>> results = new AtomicReference<>();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        transactionRunner.inNewTransaction(() -> results.set(bulkCreateWarehouseOperation.createAll(models)));
+        return results.get();
+      } catch (WarehouseException e) {
+        if (e.getErrorRule() != CONCURRENT_MODIFICATION) {
+          throw e;
+        }
+        if (attempt == MAX_CHUNK_ATTEMPTS) {
+          int status = CONCURRENT_MODIFICATION.getHttpStatus().getStatusCode();
+          return models.stream()
+                  .map(model -> WarehouseImportResult.rejected(model.getBusinessUnitCode(), status, CONCURRENT_MODIFICATION.getDescription()))
+                  .toList();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseChangeFeed;
+import com.fulfilment.application.monolith.warehouses.adapters.metrics.CountedRejections;
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseChange;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import java.time.Duration;
+import java.util.List;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+@Path("warehouse/changes")
+@CountedRejections
+@ApplicationScoped
+public class WarehouseChangeResource {
+
+  static final int MAX_LIMIT = 1000;
+
+  @Inject WarehouseChangeFeed warehouseChangeFeed;
+
+  @ConfigProperty(name = "warehouse.changes.poll-timeout", defaultValue = "30s")
+  Duration pollTimeout;
+
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  @Operation(summary = "Long-poll warehouse changes", description = "Returns the warehouse changes numbered above `after`, in sequence order. When there are none yet, waits up to `wait` seconds for the next one and returns an empty list if nothing happened.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "Changes after the given sequence number, possibly none"),
+          @APIResponse(responseCode = "400", description = "Invalid parameters")
+  })
+  public Uni<List<WarehouseChange>> pollChanges(@QueryParam("after") @DefaultValue("0") long after,
+                                                @QueryParam("limit") @DefaultValue("100") int limit,
+                                                @QueryParam("wait") @DefaultValue("30") int waitSeconds) {
+    if (after < 0 || limit < 1 || limit > MAX_LIMIT || waitSeconds < 0) {
+      throw new WebApplicationException("after and wait must not be negative, limit must be between 1 and " + MAX_LIMIT + ".", 400);
+    }
+    Duration wait = Duration.ofSeconds(waitSeconds);
+    return warehouseChangeFeed.poll(after, limit, wait.compareTo(pollTimeout) > 0 ? pollTimeout : wait);
+  }
+
+  @GET
+  @Path("stream")
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  @Operation(summary = "Stream warehouse changes", description = "Sends every warehouse change numbered above `after`, or above the Last-Event-ID of a reconnecting client, as server-sent events and keeps sending new ones. The event id is the sequence number.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "One event per change")
+  })
+  public Multi<OutboundSseEvent> streamChanges(@QueryParam("after") @DefaultValue("0") long after,
+                                               @HeaderParam("Last-Event-ID") String lastEventId,
+                                               @Context Sse sse) {
+    long from = lastEventId != null ? parseSequence(lastEventId) : after;
+    return warehouseChangeFeed.stream(from)
+        .map(change -> sse.newEventBuilder()
+            .id(String.valueOf(change.getSequence()))
+            .name(change.getType().name())
+            .mediaType(MediaType.APPLICATION_JSON_TYPE)
+            .data(WarehouseChange.class, change)
+            .build());
+  }
+
+  private static long parseSequence(String lastEventId) {
+    try {
+      return Long.parseLong(lastEventId.trim());
+    } catch (NumberFormatException e) {
+      throw new WebApplicationException("Last-Event-ID must be a sequence number.", 400);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Answers business rule rejections. The body has the same shape as the generic error mappers
+ * produce, plus the rule's error code, but is written from bytes encoded once per {@link ErrorRule}:
+ * only a message that differs from the rule's description is escaped per request. Rejections are
+ * logged without a stack trace and at most once per rule and {@code warehouse.errors.log-interval},
+ * together with how many were left out in between.
+ */
+@Provider
+public class WarehouseExceptionMapper implements ExceptionMapper<WarehouseException> {
+
+  private static final Logger LOGGER = Logger.getLogger(WarehouseExceptionMapper.class.getName());
+
+  private final Map<ErrorRule, Template> templates = new EnumMap<>(ErrorRule.class);
+
+  @ConfigProperty(name = "warehouse.errors.log-interval", defaultValue = "10s")
+  Duration logInterval = Duration.ofSeconds(10);
+
+  public WarehouseExceptionMapper() {
+    for (ErrorRule rule : ErrorRule.values()) {
+      templates.put(rule, new Template(rule));
+    }
+  }
+
+  @Override
+  public Response toResponse(WarehouseException exception) {
+    Template template = templates.get(exception.getErrorRule());
+    template.log(exception, logInterval.toNanos());
+    return Response.status(template.status)
+        .type(MediaType.APPLICATION_JSON_TYPE)
+        .entity(template.body(exception.getMessage()))
+        .build();
+  }
+
+  private static final class Template {
+
+    private final ErrorRule rule;
+    private final int status;
+    private final byte[] head;
+    private final byte[] defaultBody;
+
+    private final AtomicLong nextLogAt = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong suppressed = new AtomicLong();
+
+    private Template(ErrorRule rule) {
+      this.rule = rule;
+      this.status = rule.getHttpStatus().getStatusCode();
+      this.head = ("{\"exceptionType\":\"" + WarehouseException.class.getName() + "\""
+          + ",\"code\":" + status
+          + ",\"errorCode\":\"" + rule.getCode() + "\""
+          + ",\"error\":").getBytes(StandardCharsets.UTF_8);
+      this.defaultBody = encode(rule.getDescription());
+    }
+
+    byte[] body(String message) {
+      if (message == null || message.equals(rule.getDescription())) {
+        return defaultBody;
+      }
+      return encode(message);
+    }
+
+    private byte[] encode(String message) {
+      byte[] quoted = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+      var body = new ByteArrayOutputStream(head.length + quoted.length + 3);
+      body.writeBytes(head);
+      body.write('"');
+      body.writeBytes(quoted);
+      body.write('"');
+      body.write('}');
+      return body.toByteArray();
+    }
+
+    void log(WarehouseException exception, long intervalNanos) {
+      long now = System.nanoTime();
+      long next = nextLogAt.get();
+      if ((next != Long.MIN_VALUE && now - next < 0) || !nextLogAt.compareAndSet(next, now + intervalNanos)) {
+        suppressed.incrementAndGet();
+        return;
+      }
+      long skipped = suppressed.getAndSet(0);
+      if (skipped == 0) {
+        LOGGER.warnv("Request rejected ({0}): {1}", rule, exception.getMessage());
+      } else {
+        LOGGER.warnv("Request rejected ({0}): {1} ({2} more since the last report)", rule, exception.getMessage(), skipped);
+      }
+    }
+  }
+}
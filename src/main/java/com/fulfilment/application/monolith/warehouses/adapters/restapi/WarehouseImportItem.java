@@ -0,0 +1,20 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+
+/** One line of the bulk import report; {@code index} is the position of the unit in the request. */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WarehouseImportItem {
+
+  int index;
+
+  String businessUnitCode;
+
+  boolean created;
+
+  int status;
+
+  String message;
+}
@@ -0,0 +1,60 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationRebalancePlan;
+import com.fulfilment.application.monolith.warehouses.domain.ports.PlanRebalancingOperation;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+@Path("warehouse/rebalancing")
+@ApplicationScoped
+public class WarehouseRebalanceResource {
+
+  // plans written between flushes of the response
+  private static final int BATCH_SIZE = 100;
+
+  @Inject PlanRebalancingOperation planRebalancingOperation;
+  @Inject ObjectMapper objectMapper;
+
+  @GET
+  @Produces(WarehouseStreamResource.NDJSON)
+  @Operation(summary = "Plan the rebalancing of stock per location", description = "Computes, for every location with active warehouse units, the stock moves that bring all its units to the same fill rate, and flags locations near saturation. Nothing is changed. Writes one plan per location as newline-delimited JSON.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "One location plan per line, ordered by location")
+  })
+  public StreamingOutput planRebalancing() {
+    return output -> write(output, QuarkusTransaction.requiringNew().call(planRebalancingOperation::plan));
+  }
+
+  private void write(OutputStream output, List<LocationRebalancePlan> plans) {
+    ObjectWriter writer = objectMapper.writerFor(LocationRebalancePlan.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      int written = 0;
+      for (LocationRebalancePlan plan : plans) {
+        writer.writeValue(generator, plan);
+        generator.writeRaw('\n');
+        if (++written % BATCH_SIZE == 0) {
+          generator.flush();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
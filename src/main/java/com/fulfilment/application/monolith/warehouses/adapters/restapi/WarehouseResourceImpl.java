@@ -4,12 +4,20 @@ import com.fulfilment.application.monolith.exceptions.WarehouseException;
 import com.fulfilment.application.monolith.mapper.WarehouseMapper;
 import com.fulfilment.application.monolith.warehouses.adapters.database.DbWarehouse;
 import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseRepository;
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseSearchCriteria;
 
+import com.fulfilment.application.monolith.warehouses.adapters.memory.WarehouseWriteBehind;
 import com.fulfilment.application.monolith.warehouses.domain.ports.CreateWarehouseOperation;
 import com.fulfilment.application.monolith.warehouses.domain.ports.ReplaceWarehouseOperation;
+import com.fulfilment.application.monolith.warehouses.domain.ports.TransferStockOperation;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
 import com.fulfilment.application.monolith.warehouses.domain.usecases.ArchiveWarehouseUseCase;
+import com.fulfilment.application.monolith.warehouses.adapters.metrics.CountedRejections;
 import com.warehouse.api.WarehouseResource;
 import com.warehouse.api.beans.Warehouse;
+import com.warehouse.api.beans.WarehouseHistoryEntry;
+import com.warehouse.api.beans.WarehouseStockTransfer;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.RequestScoped;
 
 import jakarta.validation.constraints.NotNull;
@@ -18,23 +26,56 @@ import lombok.RequiredArgsConstructor;
 import jakarta.transaction.Transactional;
 import com.fulfilment.application.monolith.exceptions.ErrorRule;
 
+/**
+ * Listing, search and timeline reads are answered by the database, which a selected in-memory
+ * {@link WarehouseStore} writes back to in the background; they first wait for the changes queued
+ * so far, so a client reads its own writes. Single units are served by the selected store, after
+ * resolving the database id to the unit's business unit code.
+ */
 @RequestScoped
+@CountedRejections
 @RequiredArgsConstructor
 public class WarehouseResourceImpl implements WarehouseResource {
 
+  static final int DEFAULT_PAGE_SIZE = 100;
+  static final int MAX_PAGE_SIZE = 1000;
+
   private final WarehouseRepository warehouseRepository;
   private final WarehouseMapper warehouseMapper;
   private final CreateWarehouseOperation createWarehouseOperation;
   private final ReplaceWarehouseOperation replaceWarehouseOperation;
   private final ArchiveWarehouseUseCase archiveWarehouseUseCase;
+  private final TransferStockOperation transferStockOperation;
+  private final WarehouseStore warehouseStore;
+  private final WarehouseWriteBehind writeBehind;
 
   @Override
-  public List<Warehouse> listAllWarehousesUnits() {
-    return warehouseRepository.getAll().stream().map(this::toWarehouseResponse).toList();
+  @Timed(value = "warehouse.resource", histogram = true)
+  public List<Warehouse> listAllWarehousesUnits(Long after, Integer limit) {
+    writeBehind.awaitWritten();
+    return warehouseRepository.findPage(after, pageSize(limit)).stream().map(warehouseMapper::toResponse).toList();
   }
 
   @Override
-  @Transactional
+  @Timed(value = "warehouse.resource", histogram = true)
+  public List<Warehouse> searchWarehouseUnits(String location, Boolean archived, Integer minCapacity, Integer maxCapacity,
+                                              Integer minStock, Integer maxStock, Long after, Integer limit) {
+    writeBehind.awaitWritten();
+    var criteria = new WarehouseSearchCriteria(location, archived, minCapacity, maxCapacity, minStock, maxStock);
+    return warehouseRepository.search(criteria, after, pageSize(limit)).stream().map(warehouseMapper::toResponse).toList();
+  }
+
+  @Override
+  @Timed(value = "warehouse.resource", histogram = true)
+  public List<WarehouseHistoryEntry> getTheTimelineOfABusinessUnitCode(String businessUnitCode) {
+    writeBehind.awaitWritten();
+    return warehouseRepository.findTimeline(businessUnitCode).stream().map(warehouseMapper::toHistoryEntry).toList();
+  }
+
+  @Override
+  @Timed(value = "warehouse.resource", histogram = true)
+  // no @Transactional: the use case commits in a transaction of its own, so a unique-key race
+  // on the business unit code surfaces there as a conflict instead of a failed commit here
   public Warehouse createANewWarehouseUnit(@NotNull Warehouse data) {
     requestValidation(data);
     com.fulfilment.application.monolith.warehouses.domain.models.Warehouse model = warehouseMapper.toModel(data);
@@ -43,20 +84,24 @@ public class WarehouseResourceImpl implements WarehouseResource {
   }
 
   @Override
+  @Timed(value = "warehouse.resource", histogram = true)
   public Warehouse getAWarehouseUnitByID(String id) {
+    // a primary-key load that the second-level cache usually answers; the state comes from the store
     DbWarehouse entity = warehouseRepository.findById(Long.parseLong(id));
-    return toWarehouseResponse(warehouseMapper.toModel(entity));
+    return toWarehouseResponse(warehouseStore.findByBusinessUnitCode(entity.getBusinessUnitCode()));
   }
 
   @Override
+  @Timed(value = "warehouse.resource", histogram = true)
   @Transactional
   public void archiveAWarehouseUnitByID(String id) {
     DbWarehouse entity = warehouseRepository.findById(Long.parseLong(id));
-    archiveWarehouseUseCase.archive(warehouseMapper.toModel(entity));
+    archiveWarehouseUseCase.archive(warehouseStore.findByBusinessUnitCode(entity.getBusinessUnitCode()));
   }
 
   @Override
-  @Transactional
+  @Timed(value = "warehouse.resource", histogram = true)
+  // no @Transactional: the use case runs, and if needed retries, each attempt in its own transaction
   public Warehouse replaceTheCurrentActiveWarehouse(String businessUnitCode, @NotNull Warehouse data) {
     if (businessUnitCode != null && !businessUnitCode.equals(data.getBusinessUnitCode())) {
       throw new WarehouseException(ErrorRule.BUSINESS_UNIT_CODE_MISMATCH, "Business Unit Code in path and in request body do not match.");
@@ -67,6 +112,16 @@ public class WarehouseResourceImpl implements WarehouseResource {
     return data;
   }
 
+  @Override
+  @Timed(value = "warehouse.resource", histogram = true)
+  // no @Transactional: the use case locks and updates both warehouses in a transaction of its own
+  public void transferStockBetweenTwoWarehouseUnits(@NotNull WarehouseStockTransfer data) {
+    if (data.getQuantity() == null) {
+      throw new WarehouseException(ErrorRule.MISSING_FIELD, "Quantity was not set on request.");
+    }
+    transferStockOperation.transfer(data.getSourceBusinessUnitCode(), data.getTargetBusinessUnitCode(), data.getQuantity());
+  }
+
   private Warehouse toWarehouseResponse(
           com.fulfilment.application.monolith.warehouses.domain.models.Warehouse warehouse) {
     var response = new Warehouse();
@@ -77,6 +132,10 @@ public class WarehouseResourceImpl implements WarehouseResource {
     return response;
   }
 
+  private static int pageSize(Integer limit) {
+    return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+  }
+
   private void requestValidation(Warehouse data) {
     if (data.getBusinessUnitCode() == null) {
       throw new WarehouseException(ErrorRule.MISSING_FIELD, "Business Unit Code was not set on request.");
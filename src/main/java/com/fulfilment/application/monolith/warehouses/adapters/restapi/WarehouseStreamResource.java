@@ -0,0 +1,69 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fulfilment.application.monolith.mapper.WarehouseMapper;
+import com.fulfilment.application.monolith.warehouses.adapters.database.DbWarehouse;
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseRepository;
+import com.warehouse.api.beans.Warehouse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+
+@Path("warehouse/stream")
+@ApplicationScoped
+public class WarehouseStreamResource {
+
+  static final String NDJSON = "application/x-ndjson";
+
+  // rows written between flushing the response and clearing the persistence context
+  private static final int BATCH_SIZE = 500;
+
+  @Inject WarehouseRepository warehouseRepository;
+  @Inject WarehouseMapper warehouseMapper;
+  @Inject ObjectMapper objectMapper;
+
+  @GET
+  @Produces(NDJSON)
+  @Operation(summary = "Stream all warehouse units", description = "Writes every warehouse unit, ordered by id, as newline-delimited JSON straight from a database cursor.")
+  @APIResponses({
+          @APIResponse(responseCode = "200", description = "One warehouse unit per line")
+  })
+  public StreamingOutput streamAllWarehousesUnits() {
+    return output -> QuarkusTransaction.requiringNew().run(() -> write(output));
+  }
+
+  private void write(OutputStream output) {
+    ObjectWriter writer = objectMapper.writerFor(Warehouse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (Stream<DbWarehouse> rows = warehouseRepository.streamAllOrderedById();
+         JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      Iterator<DbWarehouse> iterator = rows.iterator();
+      int written = 0;
+      while (iterator.hasNext()) {
+        writer.writeValue(generator, warehouseMapper.toResponse(iterator.next()));
+        generator.writeRaw('\n');
+        if (++written % BATCH_SIZE == 0) {
+          generator.flush();
+          warehouseRepository.getEntityManager().clear();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.fulfilment.application.monolith.warehouses.domain.models;
+
+import lombok.Value;
+
+/**
+ * Running totals of the active warehouses at one location. Instances are immutable so that a
+ * reader always sees a consistent count/capacity/stock triple.
+ */
+@Value
+public class LocationAggregate {
+
+  String location;
+
+  long activeWarehouses;
+
+  long totalCapacity;
+
+  long totalStock;
+
+  public static LocationAggregate empty(String location) {
+    return new LocationAggregate(location, 0, 0, 0);
+  }
+
+  public LocationAggregate plus(long warehouses, long capacity, long stock) {
+    return new LocationAggregate(
+        location, activeWarehouses + warehouses, totalCapacity + capacity, totalStock + stock);
+  }
+}
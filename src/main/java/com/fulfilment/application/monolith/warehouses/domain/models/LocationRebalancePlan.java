@@ -0,0 +1,33 @@
+package com.fulfilment.application.monolith.warehouses.domain.models;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Rebalancing proposal for the active warehouses of one location: the moves that bring every
+ * warehouse to the location's overall fill rate, and how close the location is to saturation.
+ */
+@Value
+public class LocationRebalancePlan {
+
+  String location;
+
+  int activeWarehouses;
+
+  long totalCapacity;
+
+  long totalStock;
+
+  // maximum summed capacity of the location, 0 when it is not in the catalogue
+  int maxCapacity;
+
+  // stock / capacity of the active warehouses
+  double fillRate;
+
+  // capacity of the active warehouses / the location's maximum capacity
+  double capacityUsage;
+
+  boolean nearSaturation;
+
+  List<StockMove> moves;
+}
@@ -0,0 +1,14 @@
+package com.fulfilment.application.monolith.warehouses.domain.models;
+
+import lombok.Value;
+
+/** A proposed movement of stock from one warehouse to another within a location. */
+@Value
+public class StockMove {
+
+  String fromBusinessUnitCode;
+
+  String toBusinessUnitCode;
+
+  int quantity;
+}
@@ -0,0 +1,32 @@
+package com.fulfilment.application.monolith.warehouses.domain.models;
+
+import java.time.LocalDateTime;
+import lombok.Value;
+
+/**
+ * One committed change of an active warehouse, numbered in the change feed. A replacement shows up
+ * as the archiving of the old unit followed by the creation of the new one.
+ */
+@Value
+public class WarehouseChange {
+
+  public enum Type {
+    CREATED,
+    UPDATED,
+    ARCHIVED
+  }
+
+  long sequence;
+
+  Type type;
+
+  String businessUnitCode;
+
+  String location;
+
+  Integer capacity;
+
+  Integer stock;
+
+  LocalDateTime changedAt;
+}
@@ -0,0 +1,25 @@
+package com.fulfilment.application.monolith.warehouses.domain.models;
+
+import lombok.Value;
+
+/** Outcome of one warehouse of a bulk import. */
+@Value
+public class WarehouseImportResult {
+
+  String businessUnitCode;
+
+  boolean created;
+
+  // HTTP status the item would have produced as a single create
+  int status;
+
+  String message;
+
+  public static WarehouseImportResult created(String businessUnitCode) {
+    return new WarehouseImportResult(businessUnitCode, true, 201, null);
+  }
+
+  public static WarehouseImportResult rejected(String businessUnitCode, int status, String message) {
+    return new WarehouseImportResult(businessUnitCode, false, status, message);
+  }
+}
@@ -0,0 +1,10 @@
+package com.fulfilment.application.monolith.warehouses.domain.ports;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseImportResult;
+import java.util.List;
+
+public interface BulkCreateWarehouseOperation {
+  /** Creates every valid warehouse of the batch; results are returned in input order. */
+  List<WarehouseImportResult> createAll(List<Warehouse> warehouses);
+}
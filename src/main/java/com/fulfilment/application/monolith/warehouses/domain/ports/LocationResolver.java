@@ -4,4 +4,7 @@ import com.fulfilment.application.monolith.warehouses.domain.models.Location;
 
 public interface LocationResolver {
   Location resolveByIdentifier(String identifier);
+
+  /** Returns the location with the given identifier, or {@code null} when it is unknown. */
+  Location findByIdentifier(String identifier);
 }
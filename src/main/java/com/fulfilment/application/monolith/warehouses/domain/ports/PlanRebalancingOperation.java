@@ -0,0 +1,9 @@
+package com.fulfilment.application.monolith.warehouses.domain.ports;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationRebalancePlan;
+import java.util.List;
+
+public interface PlanRebalancingOperation {
+  /** One plan per location with active warehouses, ordered by location. Changes nothing. */
+  List<LocationRebalancePlan> plan();
+}
@@ -0,0 +1,15 @@
+package com.fulfilment.application.monolith.warehouses.domain.ports;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/** Non-blocking read side of {@link WarehouseStore}; nothing here may block the calling thread. */
+public interface ReactiveWarehouseStore {
+
+  /** Every active warehouse, fetched page by page as the subscriber requests them. */
+  Multi<Warehouse> getAll();
+
+  /** Fails with a {@code WarehouseException} when no active warehouse uses the code. */
+  Uni<Warehouse> findByBusinessUnitCode(String buCode);
+}
@@ -0,0 +1,10 @@
+package com.fulfilment.application.monolith.warehouses.domain.ports;
+
+public interface TransactionRunner {
+  /**
+   * Runs the work in its own transaction and commits it. Losing a race against a concurrent change
+   * of the same warehouse surfaces as a {@code WarehouseException} with rule
+   * {@code CONCURRENT_MODIFICATION}, which is safe to retry.
+   */
+  void inNewTransaction(Runnable work);
+}
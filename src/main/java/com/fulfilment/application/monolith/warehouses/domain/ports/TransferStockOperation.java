@@ -0,0 +1,6 @@
+package com.fulfilment.application.monolith.warehouses.domain.ports;
+
+public interface TransferStockOperation {
+  /** Moves stock from one active warehouse to another, all or nothing. */
+  void transfer(String sourceBusinessUnitCode, String targetBusinessUnitCode, int quantity);
+}
@@ -1,7 +1,10 @@
 package com.fulfilment.application.monolith.warehouses.domain.ports;
 
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface WarehouseStore {
 
@@ -9,9 +12,29 @@ public interface WarehouseStore {
 
   void create(Warehouse warehouse);
 
+  /** Inserts all warehouses as one batch; callers have validated them already. */
+  void createAll(List<Warehouse> warehouses);
+
   void update(Warehouse warehouse);
 
   void remove(Warehouse warehouse);
 
   Warehouse findByBusinessUnitCode(String buCode);
+
+  /**
+   * Like {@link #findByBusinessUnitCode}, but the warehouse stays locked against concurrent writers
+   * until the surrounding transaction ends. Stores without transactions do not lock.
+   */
+  default Warehouse findByBusinessUnitCodeForUpdate(String buCode) {
+    return findByBusinessUnitCode(buCode);
+  }
+
+  /** Whether an active (not archived) warehouse uses the given business unit code. */
+  boolean existsActiveByBusinessUnitCode(String buCode);
+
+  /** The subset of the given business unit codes used by active warehouses. */
+  Set<String> findActiveBusinessUnitCodes(Collection<String> buCodes);
+
+  /** Count, summed capacity and summed stock of the active warehouses at the given location. */
+  LocationAggregate getLocationAggregate(String location);
 }
@@ -0,0 +1,74 @@
+package com.fulfilment.application.monolith.warehouses.domain.usecases;
+
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseImportResult;
+import com.fulfilment.application.monolith.warehouses.domain.ports.BulkCreateWarehouseOperation;
+import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import com.fulfilment.application.monolith.warehouses.domain.validator.CreateUpdateWareHouseValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseValidationContext;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.MISSING_FIELD;
+
+@ApplicationScoped
+public class BulkCreateWarehouseUseCase implements BulkCreateWarehouseOperation {
+
+  private final WarehouseStore warehouseStore;
+  private final LocationResolver locationResolver;
+  private final List<CreateUpdateWareHouseValidator> validators;
+
+  public BulkCreateWarehouseUseCase(WarehouseStore warehouseStore, LocationResolver locationResolver, List<CreateUpdateWareHouseValidator> validators) {
+    this.warehouseStore = warehouseStore;
+    this.locationResolver = locationResolver;
+    this.validators = validators;
+  }
+
+  @Override
+  public List<WarehouseImportResult> createAll(List<Warehouse> warehouses) {
+    // One query for the whole batch; codes accepted earlier in the batch are added as we go.
+    Set<String> takenCodes = new HashSet<>(warehouseStore.findActiveBusinessUnitCodes(
+        warehouses.stream().map(Warehouse::getBusinessUnitCode).filter(Objects::nonNull).toList()));
+    Map<String, LocationAggregate> aggregates = new HashMap<>();
+
+    List<WarehouseImportResult> results = new ArrayList<>(warehouses.size());
+    List<Warehouse> accepted = new ArrayList<>(warehouses.size());
+
+    for (Warehouse warehouse : warehouses) {
+      String buCode = warehouse.getBusinessUnitCode();
+      if (buCode == null || warehouse.getLocation() == null || warehouse.getCapacity() == null || warehouse.getStock() == null) {
+        results.add(WarehouseImportResult.rejected(buCode, MISSING_FIELD.getHttpStatus().getStatusCode(), MISSING_FIELD.getDescription()));
+        continue;
+      }
+
+      LocationAggregate aggregate = aggregates.computeIfAbsent(warehouse.getLocation(), warehouseStore::getLocationAggregate);
+      var context = new WarehouseValidationContext(warehouse, locationResolver, takenCodes.contains(buCode), aggregate);
+      try {
+        validators.forEach(validator -> validator.validate(context));
+      } catch (WarehouseException e) {
+        results.add(WarehouseImportResult.rejected(buCode, e.getErrorRule().getHttpStatus().getStatusCode(), e.getMessage()));
+        continue;
+      }
+
+      takenCodes.add(buCode);
+      aggregates.put(warehouse.getLocation(), aggregate.plus(1, warehouse.getCapacity(), warehouse.getStock()));
+      accepted.add(warehouse);
+      results.add(WarehouseImportResult.created(buCode));
+    }
+
+    if (!accepted.isEmpty()) {
+      warehouseStore.createAll(accepted);
+    }
+    return results;
+  }
+}
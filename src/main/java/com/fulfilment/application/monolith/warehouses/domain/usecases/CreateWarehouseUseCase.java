@@ -1,36 +1,64 @@
 package com.fulfilment.application.monolith.warehouses.domain.usecases;
 
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 import com.fulfilment.application.monolith.warehouses.domain.ports.CreateWarehouseOperation;
 import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import com.fulfilment.application.monolith.warehouses.domain.ports.TransactionRunner;
 import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
 import com.fulfilment.application.monolith.warehouses.domain.validator.CreateUpdateWareHouseValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseValidationContext;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import java.util.List;
 
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.CONCURRENT_MODIFICATION;
+
 @ApplicationScoped
 public class CreateWarehouseUseCase implements CreateWarehouseOperation {
 
+  // a create that loses a race for its business unit code validates again and is then rejected
+  // with the taken code, rather than a conflict the client cannot tell apart from a replace race
+  static final int MAX_ATTEMPTS = 2;
+
   private final WarehouseStore warehouseStore;
 
   private final LocationResolver locationResolver;
   private final List<CreateUpdateWareHouseValidator> validators;
+  private final TransactionRunner transactionRunner;
 
-  public CreateWarehouseUseCase(WarehouseStore warehouseStore, LocationResolver locationResolver, List<CreateUpdateWareHouseValidator> validators) {
+  public CreateWarehouseUseCase(WarehouseStore warehouseStore, LocationResolver locationResolver, List<CreateUpdateWareHouseValidator> validators,
+                                TransactionRunner transactionRunner) {
     this.warehouseStore = warehouseStore;
     this.locationResolver = locationResolver;
     this.validators = validators;
+    this.transactionRunner = transactionRunner;
   }
 
   @Override
+  @Timed(value = "warehouse.usecase", histogram = true)
   public void create(Warehouse warehouse) {
 
     if (warehouse == null) {
       throw new IllegalArgumentException("Warehouse cannot be null");
     }
 
-    boolean isValid = validators.stream().allMatch(validator -> validator.validate(warehouse));
+    for (int attempt = 1; ; attempt++) {
+      try {
+        transactionRunner.inNewTransaction(() -> createOnce(warehouse));
+        return;
+      } catch (WarehouseException e) {
+        if (e.getErrorRule() != CONCURRENT_MODIFICATION || attempt == MAX_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private void createOnce(Warehouse warehouse) {
+    var context = new WarehouseValidationContext(warehouse, locationResolver, warehouseStore);
+    boolean isValid = validators.stream().allMatch(validator -> validator.validate(context));
 
     if (isValid) {
       warehouseStore.create(warehouse);
@@ -0,0 +1,159 @@
+package com.fulfilment.application.monolith.warehouses.domain.usecases;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationRebalancePlan;
+import com.fulfilment.application.monolith.warehouses.domain.models.StockMove;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import com.fulfilment.application.monolith.warehouses.domain.ports.PlanRebalancingOperation;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Computes a rebalancing plan for every location. The warehouses are loaded once and grouped by
+ * location; the per-location plans are independent and are computed in parallel on a dedicated
+ * fork/join pool, so a large planning run does not starve the common pool.
+ *
+ * <p>Within a location every warehouse is given a target stock proportional to its capacity, so all
+ * of them end up at the location's overall fill rate. Warehouses above their target then hand their
+ * surplus to those below it, largest amounts first, which keeps the number of moves low.
+ */
+@ApplicationScoped
+public class PlanRebalancingUseCase implements PlanRebalancingOperation {
+
+  private static final Comparator<Warehouse> BY_BUSINESS_UNIT_CODE = Comparator.comparing(Warehouse::getBusinessUnitCode);
+
+  private final WarehouseStore warehouseStore;
+  private final LocationResolver locationResolver;
+  private final double saturationThreshold;
+  private final ForkJoinPool pool;
+
+  public PlanRebalancingUseCase(WarehouseStore warehouseStore, LocationResolver locationResolver,
+                                @ConfigProperty(name = "warehouse.rebalance.saturation-threshold", defaultValue = "0.9") double saturationThreshold,
+                                @ConfigProperty(name = "warehouse.rebalance.parallelism", defaultValue = "0") int parallelism) {
+    this.warehouseStore = warehouseStore;
+    this.locationResolver = locationResolver;
+    this.saturationThreshold = saturationThreshold;
+    this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+  }
+
+  @Override
+  @Timed(value = "warehouse.usecase", histogram = true)
+  public List<LocationRebalancePlan> plan() {
+    Map<String, List<Warehouse>> byLocation = new HashMap<>();
+    for (Warehouse warehouse : warehouseStore.getAll()) {
+      if (warehouse.getArchivedAt() == null && warehouse.getLocation() != null) {
+        byLocation.computeIfAbsent(warehouse.getLocation(), location -> new ArrayList<>()).add(warehouse);
+      }
+    }
+    try {
+      return pool.submit(() -> byLocation.entrySet().parallelStream()
+              .map(entry -> planLocation(entry.getKey(), entry.getValue()))
+              .sorted(Comparator.comparing(LocationRebalancePlan::getLocation))
+              .toList())
+          .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while planning the rebalancing", e);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+    }
+  }
+
+  LocationRebalancePlan planLocation(String location, List<Warehouse> warehouses) {
+    warehouses.sort(BY_BUSINESS_UNIT_CODE);
+    int count = warehouses.size();
+    long totalCapacity = 0;
+    long totalStock = 0;
+    for (Warehouse warehouse : warehouses) {
+      totalCapacity += value(warehouse.getCapacity());
+      totalStock += value(warehouse.getStock());
+    }
+
+    // surplus (positive) or shortfall (negative) of every warehouse against its target
+    long[] surplus = new long[count];
+    long[] targets = targets(warehouses, totalCapacity, Math.min(totalStock, totalCapacity));
+    for (int i = 0; i < count; i++) {
+      surplus[i] = value(warehouses.get(i).getStock()) - targets[i];
+    }
+
+    Location catalogued = locationResolver.findByIdentifier(location);
+    int maxCapacity = catalogued != null ? catalogued.getMaxCapacity() : 0;
+    double fillRate = totalCapacity == 0 ? 0 : (double) totalStock / totalCapacity;
+    double capacityUsage = maxCapacity == 0 ? 0 : (double) totalCapacity / maxCapacity;
+    return new LocationRebalancePlan(location, count, totalCapacity, totalStock, maxCapacity, fillRate, capacityUsage,
+        fillRate >= saturationThreshold || capacityUsage >= saturationThreshold, moves(warehouses, surplus));
+  }
+
+  // capacity-proportional share of the stock, with the rounding remainder spread one unit at a time
+  private static long[] targets(List<Warehouse> warehouses, long totalCapacity, long stock) {
+    long[] targets = new long[warehouses.size()];
+    if (totalCapacity == 0) {
+      return targets;
+    }
+    long assigned = 0;
+    for (int i = 0; i < targets.length; i++) {
+      targets[i] = stock * value(warehouses.get(i).getCapacity()) / totalCapacity;
+      assigned += targets[i];
+    }
+    for (int i = 0; assigned < stock; i = (i + 1) % targets.length) {
+      if (targets[i] < value(warehouses.get(i).getCapacity())) {
+        targets[i]++;
+        assigned++;
+      }
+    }
+    return targets;
+  }
+
+  private static List<StockMove> moves(List<Warehouse> warehouses, long[] surplus) {
+    List<Integer> donors = new ArrayList<>();
+    List<Integer> receivers = new ArrayList<>();
+    for (int i = 0; i < surplus.length; i++) {
+      if (surplus[i] > 0) {
+        donors.add(i);
+      } else if (surplus[i] < 0) {
+        receivers.add(i);
+      }
+    }
+    donors.sort(Comparator.comparingLong((Integer i) -> surplus[i]).reversed());
+    receivers.sort(Comparator.comparingLong((Integer i) -> surplus[i]));
+
+    List<StockMove> moves = new ArrayList<>();
+    int d = 0;
+    int r = 0;
+    while (d < donors.size() && r < receivers.size()) {
+      int donor = donors.get(d);
+      int receiver = receivers.get(r);
+      long quantity = Math.min(surplus[donor], -surplus[receiver]);
+      moves.add(new StockMove(warehouses.get(donor).getBusinessUnitCode(), warehouses.get(receiver).getBusinessUnitCode(), (int) quantity));
+      surplus[donor] -= quantity;
+      surplus[receiver] += quantity;
+      if (surplus[donor] == 0) {
+        d++;
+      }
+      if (surplus[receiver] == 0) {
+        r++;
+      }
+    }
+    return moves;
+  }
+
+  private static long value(Integer number) {
+    return number != null ? number : 0;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    pool.shutdown();
+  }
+}
@@ -1,33 +1,51 @@
 package com.fulfilment.application.monolith.warehouses.domain.usecases;
 
-import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
-import com.fulfilment.application.monolith.warehouses.domain.ports.ReplaceWarehouseOperation;
-import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
-import jakarta.enterprise.context.ApplicationScoped;
-
 import com.fulfilment.application.monolith.exceptions.WarehouseException;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 import com.fulfilment.application.monolith.warehouses.domain.ports.ArchiveWarehouseOperation;
 import com.fulfilment.application.monolith.warehouses.domain.ports.ReplaceWarehouseOperation;
+import com.fulfilment.application.monolith.warehouses.domain.ports.TransactionRunner;
 import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.CONCURRENT_MODIFICATION;
 import static com.fulfilment.application.monolith.exceptions.ErrorRule.WAREHOUSE_PREVIOUSLY_ARCHIVED;
 import static com.fulfilment.application.monolith.exceptions.ErrorRule.INSUFFICIENT_WAREHOUSE_CAPACITY;
 import static com.fulfilment.application.monolith.exceptions.ErrorRule.WAREHOUSE_STOCK_MISMATCH;
 
 @ApplicationScoped
 public class ReplaceWarehouseUseCase implements ReplaceWarehouseOperation {
+
+  // a replace that loses a race re-reads the now current warehouse and tries again
+  static final int MAX_ATTEMPTS = 3;
+
   private final WarehouseStore warehouseStore;
   private final ArchiveWarehouseOperation archiveWarehouseOperation;
+  private final TransactionRunner transactionRunner;
 
-  public ReplaceWarehouseUseCase(WarehouseStore warehouseStore, ArchiveWarehouseOperation archiveWarehouseOperation) {
+  public ReplaceWarehouseUseCase(WarehouseStore warehouseStore, ArchiveWarehouseOperation archiveWarehouseOperation, TransactionRunner transactionRunner) {
     this.warehouseStore = warehouseStore;
     this.archiveWarehouseOperation = archiveWarehouseOperation;
+    this.transactionRunner = transactionRunner;
   }
 
   @Override
+  @Timed(value = "warehouse.usecase", histogram = true)
   public void replace(Warehouse newWarehouse) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        transactionRunner.inNewTransaction(() -> replaceOnce(newWarehouse));
+        return;
+      } catch (WarehouseException e) {
+        if (e.getErrorRule() != CONCURRENT_MODIFICATION || attempt == MAX_ATTEMPTS) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private void replaceOnce(Warehouse newWarehouse) {
     Warehouse existingWarehouse = warehouseStore.findByBusinessUnitCode(newWarehouse.getBusinessUnitCode());
 
     // Check if the existing warehouse exists and is not archived
@@ -0,0 +1,64 @@
+package com.fulfilment.application.monolith.warehouses.domain.usecases;
+
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.TransactionRunner;
+import com.fulfilment.application.monolith.warehouses.domain.ports.TransferStockOperation;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.INSUFFICIENT_WAREHOUSE_STOCK;
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.INVALID_STOCK_TRANSFER;
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.MISSING_FIELD;
+import static com.fulfilment.application.monolith.exceptions.ErrorRule.TRANSFER_EXCEEDS_WAREHOUSE_CAPACITY;
+
+@ApplicationScoped
+public class TransferStockUseCase implements TransferStockOperation {
+
+  private final WarehouseStore warehouseStore;
+  private final TransactionRunner transactionRunner;
+
+  public TransferStockUseCase(WarehouseStore warehouseStore, TransactionRunner transactionRunner) {
+    this.warehouseStore = warehouseStore;
+    this.transactionRunner = transactionRunner;
+  }
+
+  @Override
+  @Timed(value = "warehouse.usecase", histogram = true)
+  public void transfer(String sourceBusinessUnitCode, String targetBusinessUnitCode, int quantity) {
+    if (sourceBusinessUnitCode == null || sourceBusinessUnitCode.isBlank()) {
+      throw new WarehouseException(MISSING_FIELD, "Source business unit code was not set on request.");
+    }
+    if (targetBusinessUnitCode == null || targetBusinessUnitCode.isBlank()) {
+      throw new WarehouseException(MISSING_FIELD, "Target business unit code was not set on request.");
+    }
+    if (quantity <= 0 || sourceBusinessUnitCode.equals(targetBusinessUnitCode)) {
+      throw new WarehouseException(INVALID_STOCK_TRANSFER);
+    }
+    transactionRunner.inNewTransaction(() -> transferOnce(sourceBusinessUnitCode, targetBusinessUnitCode, quantity));
+  }
+
+  private void transferOnce(String sourceBusinessUnitCode, String targetBusinessUnitCode, int quantity) {
+    // Lock both warehouses in business unit code order: two transfers over the same pair, in
+    // whichever direction, queue up on the same first lock instead of each holding one of them.
+    // Transfers over disjoint pairs share no lock at all.
+    boolean sourceFirst = sourceBusinessUnitCode.compareTo(targetBusinessUnitCode) < 0;
+    Warehouse first = warehouseStore.findByBusinessUnitCodeForUpdate(sourceFirst ? sourceBusinessUnitCode : targetBusinessUnitCode);
+    Warehouse second = warehouseStore.findByBusinessUnitCodeForUpdate(sourceFirst ? targetBusinessUnitCode : sourceBusinessUnitCode);
+    Warehouse source = sourceFirst ? first : second;
+    Warehouse target = sourceFirst ? second : first;
+
+    if (source.getStock() < quantity) {
+      throw new WarehouseException(INSUFFICIENT_WAREHOUSE_STOCK);
+    }
+    if (target.getStock() + quantity > target.getCapacity()) {
+      throw new WarehouseException(TRANSFER_EXCEEDS_WAREHOUSE_CAPACITY);
+    }
+
+    source.setStock(source.getStock() - quantity);
+    target.setStock(target.getStock() + quantity);
+    warehouseStore.update(source);
+    warehouseStore.update(target);
+  }
+}
@@ -1,7 +1,6 @@
 package com.fulfilment.application.monolith.warehouses.domain.validator;
-import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 
 
 public interface CreateUpdateWareHouseValidator {
-    boolean validate(Warehouse warehouse);
+    boolean validate(WarehouseValidationContext context);
 }
@@ -5,11 +5,15 @@ import jakarta.enterprise.inject.Produces;
 import java.util.List;
 
 public class GenerateWarehouseValidator {
+    /**
+     * Validators run in order and stop at the first rejection, so the in-memory checks come first
+     * and the business unit code check, the only one that reaches the database, comes last.
+     */
     @Produces
-    public List<CreateUpdateWareHouseValidator> produceCreateWarehouseValidators(BuCodeValidator buCodeValidator,
-                                                                                 WarehouseCapacityValidator locationValidator,
-
-                                                                           CapacityValidator capacityAndStockValidator) {
-        return List.of(buCodeValidator, locationValidator, capacityAndStockValidator);
+    public List<CreateUpdateWareHouseValidator> produceCreateWarehouseValidators(LocationValidator locationValidator,
+                                                                                 CapacityValidator capacityAndStockValidator,
+                                                                                 WarehouseCapacityValidator warehouseCapacityValidator,
+                                                                                 BuCodeValidator buCodeValidator) {
+        return List.of(locationValidator, capacityAndStockValidator, warehouseCapacityValidator, buCodeValidator);
     }
 }
@@ -1,19 +1,16 @@
 package com.fulfilment.application.monolith.warehouses.domain.validator;
 
 
-import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
-import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
-import lombok.RequiredArgsConstructor;
 
 @ApplicationScoped
-@RequiredArgsConstructor
 public class LocationValidator  implements CreateUpdateWareHouseValidator {
-    private final LocationResolver locationResolver;
 
     @Override
-    public boolean validate(Warehouse warehouse) {
-        locationResolver.resolveByIdentifier(warehouse.getLocation());
+    @Timed(value = "warehouse.validation", histogram = true)
+    public boolean validate(WarehouseValidationContext context) {
+        context.getLocation();
         return true;
     }
-}
\ No newline at end of file
+}
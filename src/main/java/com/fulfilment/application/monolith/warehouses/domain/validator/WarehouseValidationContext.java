@@ -0,0 +1,64 @@
+package com.fulfilment.application.monolith.warehouses.domain.validator;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import lombok.Getter;
+
+/**
+ * Per-request state shared by the {@link CreateUpdateWareHouseValidator}s. Every lookup is done at
+ * most once, on first use, so running all validators costs one location resolution and one store
+ * round-trip regardless of how many of them need the data. Not thread-safe; build one per request.
+ */
+public class WarehouseValidationContext {
+
+    @Getter
+    private final Warehouse warehouse;
+
+    private final LocationResolver locationResolver;
+    private final WarehouseStore warehouseStore;
+
+    private Location location;
+    private Boolean businessUnitCodeTaken;
+    private LocationAggregate locationAggregate;
+
+    public WarehouseValidationContext(Warehouse warehouse, LocationResolver locationResolver, WarehouseStore warehouseStore) {
+        this.warehouse = warehouse;
+        this.locationResolver = locationResolver;
+        this.warehouseStore = warehouseStore;
+    }
+
+    /**
+     * Context whose business unit code check and location aggregate are already known, used when a
+     * whole batch is validated against totals kept by the caller.
+     */
+    public WarehouseValidationContext(Warehouse warehouse, LocationResolver locationResolver,
+                                      boolean businessUnitCodeTaken, LocationAggregate locationAggregate) {
+        this(warehouse, locationResolver, null);
+        this.businessUnitCodeTaken = businessUnitCodeTaken;
+        this.locationAggregate = locationAggregate;
+    }
+
+    public Location getLocation() {
+        if (location == null) {
+            location = locationResolver.resolveByIdentifier(warehouse.getLocation());
+        }
+        return location;
+    }
+
+    public boolean isBusinessUnitCodeTaken() {
+        if (businessUnitCodeTaken == null) {
+            businessUnitCodeTaken = warehouseStore.existsActiveByBusinessUnitCode(warehouse.getBusinessUnitCode());
+        }
+        return businessUnitCodeTaken;
+    }
+
+    public LocationAggregate getLocationAggregate() {
+        if (locationAggregate == null) {
+            locationAggregate = warehouseStore.getLocationAggregate(getLocation().getIdentification());
+        }
+        return locationAggregate;
+    }
+}
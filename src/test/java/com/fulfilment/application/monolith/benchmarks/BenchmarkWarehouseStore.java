@@ -0,0 +1,118 @@
+package com.fulfilment.application.monolith.benchmarks;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.location.LocationCatalogue;
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Hash-indexed, single-threaded {@link WarehouseStore} fake, so the benchmarks measure the domain code
+ * rather than a database. Keeps the per-location aggregates up to date the way the repository does.
+ */
+final class BenchmarkWarehouseStore implements WarehouseStore {
+
+    /** Number of catalogued locations the generated warehouses are spread over. */
+    static final int LOCATIONS = 1000;
+
+    private final Map<String, Warehouse> byBuCode;
+    private final Map<String, LocationAggregate> aggregates = new HashMap<>();
+
+    private BenchmarkWarehouseStore(int expectedSize) {
+        this.byBuCode = new HashMap<>(expectedSize * 4 / 3 + 1);
+    }
+
+    /** A store with {@code size} warehouses, business unit codes {@code MWH.0} upwards, round-robin over the locations. */
+    static BenchmarkWarehouseStore populated(int size) {
+        var store = new BenchmarkWarehouseStore(size);
+        for (int i = 0; i < size; i++) {
+            store.create(new Warehouse(buCode(i), location(i % LOCATIONS), 40, 10, null, null));
+        }
+        return store;
+    }
+
+    /** Catalogue of {@link #LOCATIONS} locations that none of the generated stores can fill up. */
+    static LocationCatalogue catalogue() {
+        List<Location> locations = new ArrayList<>(LOCATIONS);
+        for (int i = 0; i < LOCATIONS; i++) {
+            locations.add(new Location(location(i), Integer.MAX_VALUE, Integer.MAX_VALUE));
+        }
+        return LocationCatalogue.of(locations);
+    }
+
+    static String buCode(int i) {
+        return "MWH." + i;
+    }
+
+    static String location(int i) {
+        return "BENCH-" + i;
+    }
+
+    @Override
+    public List<Warehouse> getAll() {
+        return List.copyOf(byBuCode.values());
+    }
+
+    @Override
+    public void create(Warehouse warehouse) {
+        byBuCode.put(warehouse.getBusinessUnitCode(), warehouse);
+        aggregates.merge(warehouse.getLocation(),
+                LocationAggregate.empty(warehouse.getLocation()).plus(1, warehouse.getCapacity(), warehouse.getStock()),
+                (current, added) -> current.plus(1, warehouse.getCapacity(), warehouse.getStock()));
+    }
+
+    @Override
+    public void createAll(List<Warehouse> warehouses) {
+        warehouses.forEach(this::create);
+    }
+
+    @Override
+    public void update(Warehouse warehouse) {
+        remove(warehouse);
+        create(warehouse);
+    }
+
+    @Override
+    public void remove(Warehouse warehouse) {
+        Warehouse removed = byBuCode.remove(warehouse.getBusinessUnitCode());
+        if (removed == null) {
+            throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
+        }
+        aggregates.computeIfPresent(removed.getLocation(),
+                (location, current) -> current.plus(-1, -removed.getCapacity(), -removed.getStock()));
+    }
+
+    @Override
+    public Warehouse findByBusinessUnitCode(String buCode) {
+        Warehouse warehouse = byBuCode.get(buCode);
+        if (warehouse == null) {
+            throw new WarehouseException(ErrorRule.WAREHOUSE_NOT_LOCATED, "No warehouse found with the provided businessUnitCode");
+        }
+        return warehouse;
+    }
+
+    @Override
+    public boolean existsActiveByBusinessUnitCode(String buCode) {
+        return byBuCode.containsKey(buCode);
+    }
+
+    @Override
+    public Set<String> findActiveBusinessUnitCodes(Collection<String> buCodes) {
+        return buCodes.stream().filter(byBuCode::containsKey).collect(Collectors.toSet());
+    }
+
+    @Override
+    public LocationAggregate getLocationAggregate(String location) {
+        return aggregates.getOrDefault(location, LocationAggregate.empty(location));
+    }
+}
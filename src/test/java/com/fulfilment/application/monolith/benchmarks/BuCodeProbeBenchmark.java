@@ -0,0 +1,90 @@
+package com.fulfilment.application.monolith.benchmarks;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import com.fulfilment.application.monolith.warehouses.domain.validator.BuCodeValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseValidationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the business unit code check on the happy path of a create: the former
+ * catch-the-not-found-exception probe against {@link WarehouseStore#existsActiveByBusinessUnitCode}.
+ * {@link WarehouseException} no longer captures a stack trace, so the former cost is pinned by
+ * {@link #tracedExceptionProbe()}, which throws a local exception that still does;
+ * {@link #exceptionProbe()} shows what the same probe costs with today's exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuCodeProbeBenchmark {
+
+    private BuCodeValidator validator;
+    private WarehouseStore warehouseStore;
+    private Warehouse newWarehouse;
+
+    @Setup
+    public void setUp() {
+        warehouseStore = BenchmarkWarehouseStore.populated(1);
+        validator = new BuCodeValidator();
+        newWarehouse = new Warehouse("MWH.999", "ZWOLLE-002", 40, 10, null, null);
+    }
+
+    @Benchmark
+    public boolean tracedExceptionProbe() {
+        try {
+            findOrThrowTraced(newWarehouse.getBusinessUnitCode());
+            return false;
+        } catch (TracedNotFoundException e) {
+            return true;
+        }
+    }
+
+    @Benchmark
+    public boolean exceptionProbe() {
+        try {
+            warehouseStore.findByBusinessUnitCode(newWarehouse.getBusinessUnitCode());
+            return false;
+        } catch (WarehouseException e) {
+            return e.getErrorRule() == ErrorRule.WAREHOUSE_NOT_LOCATED;
+        }
+    }
+
+    @Benchmark
+    public boolean existsProbe() {
+        return validator.validate(new WarehouseValidationContext(newWarehouse, null, warehouseStore));
+    }
+
+    private Warehouse findOrThrowTraced(String buCode) {
+        if (!warehouseStore.existsActiveByBusinessUnitCode(buCode)) {
+            throw new TracedNotFoundException();
+        }
+        return warehouseStore.findByBusinessUnitCode(buCode);
+    }
+
+    // the not-found exception as it was before WarehouseException skipped fillInStackTrace
+    private static final class TracedNotFoundException extends RuntimeException {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BuCodeProbeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.fulfilment.application.monolith.benchmarks;
+
+import com.fulfilment.application.monolith.location.LocationGateway;
+import com.fulfilment.application.monolith.location.LocationNotFoundException;
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Location resolution against the built-in catalogue and a catalogue of
+ * {@link BenchmarkWarehouseStore#LOCATIONS} entries, for a known and an unknown identifier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocationGatewayBenchmark {
+
+    private LocationGateway builtInGateway;
+    private LocationGateway largeGateway;
+    private String largeIdentifier;
+
+    @Setup
+    public void setUp() {
+        builtInGateway = new LocationGateway();
+        largeGateway = new LocationGateway();
+        largeGateway.replaceCatalogue(BenchmarkWarehouseStore.catalogue());
+        largeIdentifier = BenchmarkWarehouseStore.location(BenchmarkWarehouseStore.LOCATIONS / 2);
+    }
+
+    @Benchmark
+    public Location resolveBuiltIn() {
+        return builtInGateway.resolveByIdentifier("AMSTERDAM-001");
+    }
+
+    @Benchmark
+    public Location resolveLarge() {
+        return largeGateway.resolveByIdentifier(largeIdentifier);
+    }
+
+    @Benchmark
+    public Object resolveUnknown() {
+        try {
+            return builtInGateway.resolveByIdentifier("UNKNOWN-001");
+        } catch (LocationNotFoundException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fulfilment.application.monolith.benchmarks;
+
+import com.fulfilment.application.monolith.location.LocationGateway;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationRebalancePlan;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.usecases.PlanRebalancingUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.fulfilment.application.monolith.benchmarks.BenchmarkWarehouseStore.buCode;
+import static com.fulfilment.application.monolith.benchmarks.BenchmarkWarehouseStore.location;
+
+/**
+ * A full rebalancing run over warehouses spread round-robin over {@link BenchmarkWarehouseStore#LOCATIONS}
+ * locations, with stock levels uneven enough that every location needs moves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PlanRebalancingBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int warehouses;
+
+    private PlanRebalancingUseCase planRebalancingUseCase;
+
+    @Setup
+    public void setUp() {
+        BenchmarkWarehouseStore warehouseStore = BenchmarkWarehouseStore.populated(warehouses);
+        for (int i = 0; i < warehouses; i++) {
+            warehouseStore.update(new Warehouse(buCode(i), location(i % BenchmarkWarehouseStore.LOCATIONS), 40, (i * 7) % 41, null, null));
+        }
+        LocationGateway locationGateway = new LocationGateway();
+        locationGateway.replaceCatalogue(BenchmarkWarehouseStore.catalogue());
+        planRebalancingUseCase = new PlanRebalancingUseCase(warehouseStore, locationGateway, 0.9, 0);
+    }
+
+    @Benchmark
+    public List<LocationRebalancePlan> plan() {
+        return planRebalancingUseCase.plan();
+    }
+}
@@ -0,0 +1,72 @@
+package com.fulfilment.application.monolith.benchmarks;
+
+import com.fulfilment.application.monolith.mapper.WarehouseMapper;
+import com.fulfilment.application.monolith.mapper.WarehouseMapperImpl;
+import com.fulfilment.application.monolith.warehouses.adapters.database.DbWarehouse;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.warehouse.api.beans.WarehouseHistoryEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/** The generated MapStruct conversions between request beans, domain models and entities. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WarehouseMapperBenchmark {
+
+    private final WarehouseMapper warehouseMapper = new WarehouseMapperImpl();
+
+    private Warehouse model;
+    private DbWarehouse entity;
+    private com.warehouse.api.beans.Warehouse request;
+
+    @Setup
+    public void setUp() {
+        model = new Warehouse("MWH.001", "ZWOLLE-001", 40, 10, LocalDateTime.now(), null);
+        entity = new DbWarehouse(1L, "MWH.001", "ZWOLLE-001", 40, 10, LocalDateTime.now(), LocalDateTime.now(), 0L);
+        request = new com.warehouse.api.beans.Warehouse();
+        request.setBusinessUnitCode("MWH.001");
+        request.setLocation("ZWOLLE-001");
+        request.setCapacity(40);
+        request.setStock(10);
+    }
+
+    @Benchmark
+    public DbWarehouse modelToEntity() {
+        return warehouseMapper.toEntity(model);
+    }
+
+    @Benchmark
+    public Warehouse entityToModel() {
+        return warehouseMapper.toModel(entity);
+    }
+
+    @Benchmark
+    public Warehouse requestToModel() {
+        return warehouseMapper.toModel(request);
+    }
+
+    @Benchmark
+    public com.warehouse.api.beans.Warehouse entityToResponse() {
+        return warehouseMapper.toResponse(entity);
+    }
+
+    @Benchmark
+    public WarehouseHistoryEntry entityToHistoryEntry() {
+        return warehouseMapper.toHistoryEntry(entity);
+    }
+}
@@ -0,0 +1,86 @@
+package com.fulfilment.application.monolith.benchmarks;
+
+import com.fulfilment.application.monolith.location.LocationGateway;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.usecases.ArchiveWarehouseUseCase;
+import com.fulfilment.application.monolith.warehouses.domain.usecases.CreateWarehouseUseCase;
+import com.fulfilment.application.monolith.warehouses.domain.usecases.ReplaceWarehouseUseCase;
+import com.fulfilment.application.monolith.warehouses.domain.validator.BuCodeValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.CapacityValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.GenerateWarehouseValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.LocationValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseCapacityValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.fulfilment.application.monolith.benchmarks.BenchmarkWarehouseStore.LOCATIONS;
+import static com.fulfilment.application.monolith.benchmarks.BenchmarkWarehouseStore.buCode;
+import static com.fulfilment.application.monolith.benchmarks.BenchmarkWarehouseStore.location;
+
+/**
+ * Create and replace use cases end to end, validators included, against stores of growing size.
+ * Both keep the store at its parameterised size, so every invocation sees the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class WarehouseUseCaseBenchmark {
+
+    private static final String NEW_BU_CODE = "MWH.NEW";
+
+    @Param({"10", "10000", "1000000"})
+    public int warehouses;
+
+    private BenchmarkWarehouseStore warehouseStore;
+    private CreateWarehouseUseCase createWarehouseUseCase;
+    private ReplaceWarehouseUseCase replaceWarehouseUseCase;
+    private String replacedBuCode;
+    private String replacedLocation;
+
+    @Setup
+    public void setUp() {
+        warehouseStore = BenchmarkWarehouseStore.populated(warehouses);
+        var locationGateway = new LocationGateway();
+        locationGateway.replaceCatalogue(BenchmarkWarehouseStore.catalogue());
+        var validators = new GenerateWarehouseValidator().produceCreateWarehouseValidators(
+                new LocationValidator(), new CapacityValidator(), new WarehouseCapacityValidator(), new BuCodeValidator());
+
+        createWarehouseUseCase = new CreateWarehouseUseCase(warehouseStore, locationGateway, validators, Runnable::run);
+        replaceWarehouseUseCase = new ReplaceWarehouseUseCase(
+                warehouseStore, new ArchiveWarehouseUseCase(warehouseStore), Runnable::run);
+
+        int replaced = warehouses / 2;
+        replacedBuCode = buCode(replaced);
+        replacedLocation = location(replaced % LOCATIONS);
+    }
+
+    /** Includes removing the created warehouse again, one hash removal. */
+    @Benchmark
+    public Warehouse create() {
+        var warehouse = new Warehouse(NEW_BU_CODE, location(0), 40, 10, null, null);
+        createWarehouseUseCase.create(warehouse);
+        warehouseStore.remove(warehouse);
+        return warehouse;
+    }
+
+    @Benchmark
+    public Warehouse replace() {
+        var warehouse = new Warehouse(replacedBuCode, replacedLocation, 40, 10, null, null);
+        replaceWarehouseUseCase.replace(warehouse);
+        return warehouse;
+    }
+}
@@ -0,0 +1,92 @@
+package com.fulfilment.application.monolith.benchmarks;
+
+import com.fulfilment.application.monolith.location.LocationGateway;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.validator.BuCodeValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.CapacityValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.CreateUpdateWareHouseValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.GenerateWarehouseValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.LocationValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseCapacityValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseValidationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.fulfilment.application.monolith.benchmarks.BenchmarkWarehouseStore.location;
+
+/**
+ * Each create validator on its own, and the whole chain, for a valid new warehouse. Every invocation
+ * builds a fresh validation context, as a request does, so its lookups are part of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class WarehouseValidatorBenchmark {
+
+    @Param({"10", "10000", "1000000"})
+    public int warehouses;
+
+    private BenchmarkWarehouseStore warehouseStore;
+    private LocationGateway locationGateway;
+    private Warehouse newWarehouse;
+
+    private final LocationValidator locationValidator = new LocationValidator();
+    private final CapacityValidator capacityValidator = new CapacityValidator();
+    private final WarehouseCapacityValidator warehouseCapacityValidator = new WarehouseCapacityValidator();
+    private final BuCodeValidator buCodeValidator = new BuCodeValidator();
+    private final List<CreateUpdateWareHouseValidator> validators = new GenerateWarehouseValidator()
+            .produceCreateWarehouseValidators(locationValidator, capacityValidator, warehouseCapacityValidator, buCodeValidator);
+
+    @Setup
+    public void setUp() {
+        warehouseStore = BenchmarkWarehouseStore.populated(warehouses);
+        locationGateway = new LocationGateway();
+        locationGateway.replaceCatalogue(BenchmarkWarehouseStore.catalogue());
+        newWarehouse = new Warehouse("MWH.NEW", location(0), 40, 10, null, null);
+    }
+
+    @Benchmark
+    public boolean validateLocation() {
+        return locationValidator.validate(newContext());
+    }
+
+    @Benchmark
+    public boolean validateCapacity() {
+        return capacityValidator.validate(newContext());
+    }
+
+    @Benchmark
+    public boolean validateWarehouseCapacity() {
+        return warehouseCapacityValidator.validate(newContext());
+    }
+
+    @Benchmark
+    public boolean validateBuCode() {
+        return buCodeValidator.validate(newContext());
+    }
+
+    @Benchmark
+    public boolean validateAll() {
+        var context = newContext();
+        return validators.stream().allMatch(validator -> validator.validate(context));
+    }
+
+    private WarehouseValidationContext newContext() {
+        return new WarehouseValidationContext(newWarehouse, locationGateway, warehouseStore);
+    }
+}
@@ -0,0 +1,74 @@
+package com.fulfilment.application.monolith.fulfilment;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FulfilmentConstraintIndexTest {
+
+  private FulfilmentConstraintIndex index;
+
+  @BeforeEach
+  public void setUp() {
+    index = new FulfilmentConstraintIndex();
+  }
+
+  @Test
+  public void shouldRejectDuplicateAssignment() {
+    index.reserve(1, 1, 1);
+
+    assertRejectedWith(ErrorRule.FULFILMENT_ALREADY_ASSIGNED, 1, 1, 1);
+  }
+
+  @Test
+  public void shouldLimitWarehousesPerProductAndStore() {
+    index.reserve(1, 1, 1);
+    index.reserve(1, 1, 2);
+
+    assertRejectedWith(ErrorRule.MAX_WAREHOUSES_PER_PRODUCT_REACHED, 1, 1, 3);
+    // another store may still use a third warehouse for the same product
+    assertDoesNotThrow(() -> index.reserve(2, 1, 3));
+  }
+
+  @Test
+  public void shouldLimitWarehousesPerStore() {
+    index.reserve(1, 1, 1);
+    index.reserve(1, 2, 2);
+    index.reserve(1, 3, 3);
+
+    assertRejectedWith(ErrorRule.MAX_WAREHOUSES_PER_STORE_REACHED, 1, 4, 4);
+    // a warehouse already serving the store does not count again
+    assertDoesNotThrow(() -> index.reserve(1, 4, 3));
+  }
+
+  @Test
+  public void shouldLimitProductTypesPerWarehouse() {
+    for (long product = 1; product <= 5; product++) {
+      index.reserve(product, product, 1);
+    }
+
+    assertRejectedWith(ErrorRule.MAX_PRODUCTS_PER_WAREHOUSE_REACHED, 6, 6, 1);
+    // a product type the warehouse already holds does not count again
+    assertDoesNotThrow(() -> index.reserve(6, 5, 1));
+  }
+
+  @Test
+  public void shouldFreeCapacityOnRelease() {
+    index.reserve(1, 1, 1);
+    index.reserve(1, 1, 2);
+
+    index.release(1, 1, 2);
+
+    assertDoesNotThrow(() -> index.reserve(1, 1, 3));
+  }
+
+  private void assertRejectedWith(ErrorRule rule, long storeId, long productId, long warehouseId) {
+    WarehouseException exception = assertThrows(WarehouseException.class, () -> index.reserve(storeId, productId, warehouseId));
+    assertEquals(rule, exception.getErrorRule());
+  }
+}
@@ -0,0 +1,37 @@
+package com.fulfilment.application.monolith.fulfilment;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+public class FulfilmentEndpointTest {
+
+  @Test
+  public void testAssignArchivedWarehouse() {
+    given().contentType(ContentType.JSON)
+        .body("{\"businessUnitCode\":\"MWH.077\",\"location\":\"AMSTERDAM-002\",\"capacity\":20,\"stock\":5}")
+        .when().post("warehouse")
+        .then().statusCode(200);
+    long id = given().queryParam("location", "AMSTERDAM-002")
+        .when().get("warehouse/search")
+        .then().statusCode(200)
+        .extract().jsonPath().getLong("[0].id");
+
+    given().when().delete("warehouse/" + id).then().statusCode(204);
+
+    // The archived unit keeps its id in the history table:
+    given().contentType(ContentType.JSON)
+        .body("{\"storeId\":1,\"productId\":1,\"warehouseId\":" + id + "}")
+        .when().post("fulfilment")
+        .then().statusCode(409).body(containsString("WAREHOUSEPREVIOUSLYARCHIVED"));
+
+    given().contentType(ContentType.JSON)
+        .body("{\"storeId\":1,\"productId\":1,\"warehouseId\":999}")
+        .when().post("fulfilment")
+        .then().statusCode(404);
+  }
+}
@@ -0,0 +1,51 @@
+package com.fulfilment.application.monolith.location;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LocationCatalogueTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldLoadLocationsFromFile() throws Exception {
+    Path file = directory.resolve("locations.csv");
+    Files.writeString(file, "# identifier,maxNumberOfWarehouses,maxCapacity\nUTRECHT-001, 2, 60\n\nDELFT-001,1,20\n");
+
+    LocationCatalogue catalogue = LocationCatalogue.load(file);
+
+    assertEquals(2, catalogue.size());
+    assertEquals(new Location("UTRECHT-001", 2, 60), catalogue.get("UTRECHT-001"));
+    assertNull(catalogue.get("ZWOLLE-001"));
+    assertNull(catalogue.get(null));
+  }
+
+  @Test
+  public void shouldRejectMalformedLines() throws Exception {
+    Path file = directory.resolve("locations.csv");
+    Files.writeString(file, "UTRECHT-001,2\n");
+
+    assertThrows(IllegalArgumentException.class, () -> LocationCatalogue.load(file));
+  }
+
+  @Test
+  public void shouldServeReplacedCatalogue() {
+    LocationGateway gateway = new LocationGateway();
+
+    gateway.replaceCatalogue(LocationCatalogue.of(List.of(new Location("DELFT-001", 1, 20))));
+
+    assertEquals(20, gateway.resolveByIdentifier("DELFT-001").getMaxCapacity());
+    assertNull(gateway.findByIdentifier("ZWOLLE-001"));
+    assertThrows(LocationNotFoundException.class, () -> gateway.resolveByIdentifier("ZWOLLE-001"));
+  }
+}
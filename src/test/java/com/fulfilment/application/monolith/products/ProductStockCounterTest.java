@@ -0,0 +1,108 @@
+package com.fulfilment.application.monolith.products;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.TypedQuery;
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProductStockCounterTest {
+
+    private ProductRepository productRepository;
+    private ProductStockShardRepository shardRepository;
+    private ProductStockCounter counter;
+
+    @BeforeEach
+    public void setUp() {
+        productRepository = mock(ProductRepository.class);
+        shardRepository = mock(ProductStockShardRepository.class);
+        counter = new ProductStockCounter();
+        counter.productRepository = productRepository;
+        counter.shardRepository = shardRepository;
+        counter.shards = 8;
+
+        Product product = new Product("TONSTAD");
+        product.id = 1L;
+        product.stock = 10;
+        when(productRepository.findById(eq(1L), eq(LockModeType.PESSIMISTIC_WRITE))).thenReturn(product);
+        when(shardRepository.listByProduct(1L)).thenReturn(List.of());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldSpreadTheProductStockOverTheShards_OnTheFirstMovement() {
+        when(shardRepository.add(eq(1L), anyInt(), eq(5))).thenReturn(1);
+
+        counter.adjust(1L, 5);
+
+        ArgumentCaptor<Iterable<ProductStockShard>> shards = ArgumentCaptor.forClass(Iterable.class);
+        verify(shardRepository).persist(shards.capture());
+        List<Integer> stock = new ArrayList<>();
+        shards.getValue().forEach(shard -> stock.add(shard.stock));
+        assertEquals(List.of(2, 2, 1, 1, 1, 1, 1, 1), stock);
+    }
+
+    @Test
+    public void shouldTakeFromOneShard_WhenItHoldsEnough() {
+        when(shardRepository.take(eq(1L), anyInt(), eq(3))).thenReturn(0, 0, 1);
+
+        counter.adjust(1L, -3);
+
+        verify(shardRepository, never()).listForUpdate(1L);
+    }
+
+    @Test
+    public void shouldTakeFromSeveralShards_WhenNoneHoldsEnoughAlone() {
+        var first = new ProductStockShard(1L, 0, 3);
+        var second = new ProductStockShard(1L, 1, 4);
+        when(shardRepository.listForUpdate(1L)).thenReturn(List.of(first, second));
+
+        counter.adjust(1L, -5);
+
+        assertEquals(0, first.stock);
+        assertEquals(2, second.stock);
+    }
+
+    @Test
+    public void shouldRejectDecrements_ThatWouldDropBelowZero() {
+        when(shardRepository.listForUpdate(1L)).thenReturn(List.of(new ProductStockShard(1L, 0, 3)));
+
+        var exception = assertThrows(WebApplicationException.class, () -> counter.adjust(1L, -5));
+
+        assertEquals(409, exception.getResponse().getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldFoldOnlyTheProductsWhoseTotalMoved() {
+        Product drifted = new Product("KALLAX");
+        drifted.id = 2L;
+        drifted.stock = 4;
+        EntityManager entityManager = mock(EntityManager.class);
+        TypedQuery<Object[]> query = mock(TypedQuery.class);
+        when(productRepository.getEntityManager()).thenReturn(entityManager);
+        when(entityManager.createQuery(anyString(), eq(Object[].class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.<Object[]>of(new Object[] {2L, 7L}));
+        when(productRepository.findById(2L)).thenReturn(drifted);
+
+        counter.fold();
+
+        assertEquals(7, drifted.stock);
+        verify(entityManager, never()).createQuery(anyString());
+    }
+}
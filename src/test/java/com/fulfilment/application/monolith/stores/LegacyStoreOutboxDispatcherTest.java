@@ -0,0 +1,88 @@
+package com.fulfilment.application.monolith.stores;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class LegacyStoreOutboxDispatcherTest {
+
+  private LegacyStoreManagerGateway gateway;
+  private LegacyStoreOutboxDispatcher dispatcher;
+
+  @BeforeEach
+  public void setUp() {
+    gateway = mock(LegacyStoreManagerGateway.class);
+    dispatcher = new LegacyStoreOutboxDispatcher();
+    dispatcher.legacyStoreManagerGateway = gateway;
+    dispatcher.registry = new SimpleMeterRegistry();
+    dispatcher.maxBackoff = Duration.ofMinutes(5);
+  }
+
+  @Test
+  public void shouldDoubleBackoffPerAttempt() {
+    Duration max = Duration.ofMinutes(5);
+
+    assertEquals(Duration.ofSeconds(1), LegacyStoreOutboxDispatcher.backoff(1, max));
+    assertEquals(Duration.ofSeconds(2), LegacyStoreOutboxDispatcher.backoff(2, max));
+    assertEquals(Duration.ofSeconds(8), LegacyStoreOutboxDispatcher.backoff(4, max));
+  }
+
+  @Test
+  public void shouldCapBackoff() {
+    Duration max = Duration.ofMinutes(5);
+
+    assertEquals(max, LegacyStoreOutboxDispatcher.backoff(10, max));
+    assertEquals(max, LegacyStoreOutboxDispatcher.backoff(1000, max));
+  }
+
+  @Test
+  public void shouldDeliverEveryEventOfAStoreInOneBatch_InIdOrder() {
+    var events = List.of(event(1L, 1L, 10), event(2L, 1L, 11), event(3L, 1L, 12));
+
+    var delivered = dispatcher.deliverInOrder(events, LocalDateTime.now());
+
+    assertEquals(events, delivered);
+    ArgumentCaptor<Store> sent = ArgumentCaptor.forClass(Store.class);
+    verify(gateway, times(3)).updateStoreOnLegacySystem(sent.capture());
+    assertEquals(List.of(10, 11, 12), sent.getAllValues().stream().map(store -> store.quantityProductsInStock).toList());
+  }
+
+  @Test
+  public void shouldHoldBackLaterEventsOfAStore_AfterItsFirstFailure() {
+    var first = event(1L, 1L, 10);
+    var failing = event(2L, 1L, 11);
+    var held = event(3L, 1L, 12);
+    var otherStore = event(4L, 2L, 20);
+    doThrow(new IllegalStateException("legacy system down"))
+        .when(gateway).updateStoreOnLegacySystem(argThat(store -> store != null && store.quantityProductsInStock == 11));
+
+    var delivered = dispatcher.deliverInOrder(List.of(first, failing, held, otherStore), LocalDateTime.now());
+
+    assertEquals(List.of(first, otherStore), delivered);
+    assertEquals(1, failing.attempts);
+    assertEquals(0, held.attempts);
+    verify(gateway, times(3)).updateStoreOnLegacySystem(any());
+  }
+
+  private static StoreOutboxEvent event(Long id, Long storeId, int stock) {
+    var store = new Store("store-" + storeId);
+    store.id = storeId;
+    store.quantityProductsInStock = stock;
+    var event = StoreOutboxEvent.of(StoreOutboxEvent.Type.UPDATED, store);
+    event.id = id;
+    return event;
+  }
+}
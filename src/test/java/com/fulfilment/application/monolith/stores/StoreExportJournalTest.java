@@ -0,0 +1,105 @@
+package com.fulfilment.application.monolith.stores;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StoreExportJournalTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldReadBackAppendedRecordsInOrder() throws Exception {
+    var journal = StoreExportJournal.open(directory, 4096);
+    journal.append(record(1L, "TONSTAD", 10).encode());
+    journal.append(record(2L, "KALLAX", 5).encode());
+    journal.sync();
+
+    var read = new ArrayList<StoreExportRecord>();
+    var reader = new StoreExportJournalReader(directory, 0, 0);
+
+    assertEquals(2, reader.poll(10, read::add));
+    assertEquals(List.of(record(1L, "TONSTAD", 10), record(2L, "KALLAX", 5)), read);
+    assertEquals(0, reader.poll(10, read::add));
+
+    journal.append(record(3L, "BESTÅ", 3).encode());
+    assertEquals(1, reader.poll(10, read::add));
+    assertEquals(record(3L, "BESTÅ", 3), read.get(2));
+  }
+
+  @Test
+  public void shouldRotateSegmentsAndFollowThem() throws Exception {
+    var journal = StoreExportJournal.open(directory, 64);
+    for (long id = 1; id <= 10; id++) {
+      journal.append(record(id, "STORE-" + id, (int) id).encode());
+    }
+    journal.sync();
+
+    assertTrue(Files.exists(StoreExportJournal.segmentPath(directory, 1)));
+
+    var read = new ArrayList<StoreExportRecord>();
+    var reader = new StoreExportJournalReader(directory, 0, 0);
+    assertEquals(10, reader.poll(100, read::add));
+    assertEquals(10L, read.get(9).getStoreId());
+  }
+
+  @Test
+  public void shouldContinueAfterTheLastRecordWhenReopened() throws Exception {
+    var journal = StoreExportJournal.open(directory, 4096);
+    journal.append(record(1L, "TONSTAD", 10).encode());
+    journal.close();
+
+    var reopened = StoreExportJournal.open(directory, 4096);
+    reopened.append(record(2L, "KALLAX", 5).encode());
+    reopened.close();
+
+    var read = new ArrayList<StoreExportRecord>();
+    new StoreExportJournalReader(directory, 0, 0).poll(10, read::add);
+    assertEquals(List.of(record(1L, "TONSTAD", 10), record(2L, "KALLAX", 5)), read);
+  }
+
+  @Test
+  public void shouldDeleteAcknowledgedSegmentsOnRotation() throws Exception {
+    var journal = StoreExportJournal.open(directory, 64);
+    for (long id = 1; id <= 4; id++) {
+      journal.append(record(id, "STORE-" + id, (int) id).encode());
+    }
+    var reader = new StoreExportJournalReader(directory, 0, 0);
+    reader.poll(100, record -> {});
+    reader.acknowledge();
+
+    for (long id = 5; id <= 8; id++) {
+      journal.append(record(id, "STORE-" + id, (int) id).encode());
+    }
+
+    assertEquals(reader.getSegmentIndex(), StoreExportJournal.segmentIndexes(directory).get(0));
+    assertFalse(Files.exists(StoreExportJournal.segmentPath(directory, 0)));
+  }
+
+  @Test
+  public void shouldKeepAtMostMaxSegments_AndLetALaggingReaderSkipAhead() throws Exception {
+    var journal = StoreExportJournal.open(directory, 64, 2);
+    for (long id = 1; id <= 10; id++) {
+      journal.append(record(id, "STORE-" + id, (int) id).encode());
+    }
+
+    assertEquals(2, StoreExportJournal.segmentIndexes(directory).size());
+
+    var read = new ArrayList<StoreExportRecord>();
+    new StoreExportJournalReader(directory, 0, 0).poll(100, read::add);
+    assertEquals(10L, read.get(read.size() - 1).getStoreId());
+  }
+
+  private static StoreExportRecord record(Long storeId, String name, int quantity) {
+    return new StoreExportRecord(StoreOutboxEvent.Type.UPDATED, storeId, name, quantity);
+  }
+}
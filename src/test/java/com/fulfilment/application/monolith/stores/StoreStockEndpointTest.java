@@ -0,0 +1,43 @@
+package com.fulfilment.application.monolith.stores;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+public class StoreStockEndpointTest {
+
+  @Test
+  public void testStockMovements() {
+    final String path = "store/2/stock";
+
+    // KALLAX starts with 5 in stock:
+    given().contentType(ContentType.JSON).body("{\"delta\": 7}")
+        .when().post(path)
+        .then().statusCode(200).body("quantityProductsInStock", is(12));
+
+    given().contentType(ContentType.JSON).body("{\"delta\": -12}")
+        .when().post(path)
+        .then().statusCode(200).body("quantityProductsInStock", is(0));
+
+    // Stock never drops below zero:
+    given().contentType(ContentType.JSON).body("{\"delta\": -1}")
+        .when().post(path)
+        .then().statusCode(409);
+
+    given().contentType(ContentType.JSON).body("{\"delta\": 0}")
+        .when().post(path)
+        .then().statusCode(422);
+
+    given().contentType(ContentType.JSON).body("{\"delta\": 1}")
+        .when().post("store/999/stock")
+        .then().statusCode(404);
+
+    // The movements share one pending update for the legacy system:
+    assertTrue(StoreOutboxEvent.count("storeId = ?1 and type = ?2", 2L, StoreOutboxEvent.Type.UPDATED) <= 1);
+  }
+}
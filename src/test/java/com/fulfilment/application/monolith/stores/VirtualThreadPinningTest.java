@@ -0,0 +1,95 @@
+package com.fulfilment.application.monolith.stores;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+/**
+ * With virtual threads enabled, neither the store and product endpoints (JDBC through Agroal and
+ * Hibernate) nor the legacy journal export may pin a carrier thread. Pinning is detected through the
+ * JFR {@code jdk.VirtualThreadPinned} event.
+ */
+@QuarkusTest
+@TestProfile(VirtualThreadPinningTest.VirtualThreadsEnabled.class)
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VirtualThreadPinningTest {
+
+  public static class VirtualThreadsEnabled implements QuarkusTestProfile {
+    @Override
+    public Map<String, String> getConfigOverrides() {
+      return Map.of("quarkus.virtual-threads.enabled", "true", "legacy-store.export.mode", "journal");
+    }
+  }
+
+  @Inject LegacyStoreManagerGateway legacyStoreManagerGateway;
+
+  private final List<String> pinnedStacks = new CopyOnWriteArrayList<>();
+  private RecordingStream recording;
+
+  @BeforeEach
+  public void startRecording() {
+    recording = new RecordingStream();
+    recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ZERO);
+    recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedStacks.add(String.valueOf(event.getStackTrace())));
+    recording.startAsync();
+  }
+
+  @AfterEach
+  public void stopRecording() {
+    recording.close();
+  }
+
+  @Test
+  public void testEndpointsDoNotPin() throws Exception {
+    given().when().get("store").then().statusCode(200).body(containsString("KALLAX"));
+    given()
+        .contentType("application/json")
+        .body("{\"name\": \"PINNING-CHECK\", \"quantityProductsInStock\": 1}")
+        .when()
+        .post("store")
+        .then()
+        .statusCode(201);
+    given().when().get("product").then().statusCode(200).body(containsString("KALLAX"));
+
+    assertNoPinning();
+  }
+
+  @Test
+  public void testJournalExportDoesNotPin() throws Exception {
+    // the build targets Java 17, so the Java 21 factory is looked up reflectively
+    var virtualThreads = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    try {
+      virtualThreads.submit(() -> {
+        legacyStoreManagerGateway.createStoreOnLegacySystem(new Store("PINNING-JOURNAL"));
+        legacyStoreManagerGateway.flush();
+      }).get();
+    } finally {
+      virtualThreads.shutdown();
+    }
+
+    assertNoPinning();
+  }
+
+  private void assertNoPinning() throws InterruptedException {
+    // events reach the stream asynchronously
+    Thread.sleep(1000);
+    assertEquals(List.of(), pinnedStacks);
+  }
+}
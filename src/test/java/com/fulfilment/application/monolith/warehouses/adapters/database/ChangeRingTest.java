@@ -0,0 +1,64 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseChange;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChangeRingTest {
+
+    @Test
+    public void shouldReturnTheChangesAfterASequence() {
+        ChangeRing ring = new ChangeRing(8, 10);
+        ring.add(change(11));
+        ring.add(change(12));
+        ring.add(change(13));
+
+        assertEquals(List.of(12L, 13L), sequences(ring.after(11, Long.MAX_VALUE, 10)));
+        assertEquals(List.of(11L), sequences(ring.after(10, Long.MAX_VALUE, 1)));
+        assertEquals(List.of(), sequences(ring.after(13, Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    public void shouldKeepSequenceOrder_WhenChangesCommitOutOfOrder() {
+        ChangeRing ring = new ChangeRing(8, 10);
+        ring.add(change(11));
+        ring.add(change(13));
+        ring.add(change(12));
+
+        assertEquals(List.of(11L, 12L, 13L), sequences(ring.after(10, Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    public void shouldSendReadersToTheDatabase_OnceTheirOffsetWasEvicted() {
+        ChangeRing ring = new ChangeRing(2, 10);
+        ring.add(change(11));
+        ring.add(change(12));
+        ring.add(change(13));
+
+        assertNull(ring.after(10, Long.MAX_VALUE, 10));
+        assertEquals(List.of(12L, 13L), sequences(ring.after(11, Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    public void shouldStopAtTheGivenSequence() {
+        ChangeRing ring = new ChangeRing(8, 10);
+        ring.add(change(11));
+        ring.add(change(12));
+        ring.add(change(13));
+
+        assertEquals(List.of(11L, 12L), sequences(ring.after(10, 12, 10)));
+    }
+
+    private static WarehouseChange change(long sequence) {
+        return new WarehouseChange(sequence, WarehouseChange.Type.UPDATED, "MWH.001", "ZWOLLE-001", 100, 10, LocalDateTime.now());
+    }
+
+    private static List<Long> sequences(List<WarehouseChange> changes) {
+        return changes.stream().map(WarehouseChange::getSequence).toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LocationAggregateIndexTest {
+
+    private LocationAggregateIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new LocationAggregateIndex();
+        index.reset(List.of(new LocationAggregate("ZWOLLE-001", 1, 40, 10)));
+    }
+
+    @Test
+    public void shouldReturnEmptyAggregate_WhenLocationHasNoWarehouses() {
+        LocationAggregate aggregate = index.get("TILBURG-001");
+
+        assertEquals(new LocationAggregate("TILBURG-001", 0, 0, 0), aggregate);
+    }
+
+    @Test
+    public void shouldAccumulateActiveWarehouses() {
+        index.added(new DbWarehouse(null, "MWH.002", "ZWOLLE-001", 20, 5, LocalDateTime.now(), null, null));
+
+        assertEquals(new LocationAggregate("ZWOLLE-001", 2, 60, 15), index.get("ZWOLLE-001"));
+    }
+
+    @Test
+    public void shouldIgnoreArchivedWarehouses() {
+        index.added(new DbWarehouse(null, "MWH.002", "ZWOLLE-001", 20, 5, LocalDateTime.now(), LocalDateTime.now(), null));
+
+        assertEquals(new LocationAggregate("ZWOLLE-001", 1, 40, 10), index.get("ZWOLLE-001"));
+    }
+
+    @Test
+    public void shouldSubtractRemovedWarehouses() {
+        index.removed(new DbWarehouse(1L, "MWH.001", "ZWOLLE-001", 40, 10, LocalDateTime.now(), null, null));
+
+        assertEquals(new LocationAggregate("ZWOLLE-001", 0, 0, 0), index.get("ZWOLLE-001"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.fulfilment.application.monolith.warehouses.adapters.database;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseChange;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WarehouseChangeFeedTest {
+
+    private WarehouseChangeFeed feed;
+
+    @BeforeEach
+    public void setUp() {
+        feed = new WarehouseChangeFeed();
+        feed.bufferSize = 16;
+        feed.init();
+        feed.coverFrom(0);
+    }
+
+    @Test
+    public void shouldAnswerFromMemory_WhenChangesArePending() {
+        feed.publish(change(1));
+
+        List<WarehouseChange> changes = feed.poll(0, 10, Duration.ofSeconds(5)).await().atMost(Duration.ofSeconds(1));
+
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void shouldWakeEveryWaitingPoller_OnTheNextCommit() {
+        var first = feed.poll(0, 10, Duration.ofSeconds(30)).subscribe().withSubscriber(UniAssertSubscriber.create());
+        var second = feed.poll(0, 10, Duration.ofSeconds(30)).subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        feed.publish(change(1));
+
+        assertEquals(1L, first.awaitItem(Duration.ofSeconds(5)).getItem().get(0).getSequence());
+        assertEquals(1L, second.awaitItem(Duration.ofSeconds(5)).getItem().get(0).getSequence());
+    }
+
+    @Test
+    public void shouldReturnNothing_WhenTheWaitRunsOut() {
+        List<WarehouseChange> changes = feed.poll(0, 10, Duration.ofMillis(50)).await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void shouldHoldBackAChange_WhileALowerNumberIsStillInFlight() {
+        feed.allocated(1);
+        feed.allocated(2);
+        feed.publish(change(2));
+
+        assertEquals(List.of(), feed.poll(0, 10, Duration.ZERO).await().atMost(Duration.ofSeconds(1)));
+
+        feed.publish(change(1));
+
+        List<WarehouseChange> changes = feed.poll(0, 10, Duration.ZERO).await().atMost(Duration.ofSeconds(1));
+        assertEquals(List.of(1L, 2L), changes.stream().map(WarehouseChange::getSequence).toList());
+    }
+
+    @Test
+    public void shouldReleaseHeldBackChanges_WhenALowerNumberRollsBack() {
+        feed.allocated(1);
+        feed.allocated(2);
+        var waiting = feed.poll(0, 10, Duration.ofSeconds(30)).subscribe().withSubscriber(UniAssertSubscriber.create());
+        feed.publish(change(2));
+
+        feed.discard(1);
+
+        assertEquals(2L, waiting.awaitItem(Duration.ofSeconds(5)).getItem().get(0).getSequence());
+    }
+
+    private static WarehouseChange change(long sequence) {
+        return new WarehouseChange(sequence, WarehouseChange.Type.CREATED, "MWH.001", "ZWOLLE-001", 100, 10, LocalDateTime.now());
+    }
+}
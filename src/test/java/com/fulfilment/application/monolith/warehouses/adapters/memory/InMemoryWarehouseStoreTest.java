@@ -0,0 +1,215 @@
+package com.fulfilment.application.monolith.warehouses.adapters.memory;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryWarehouseStoreTest {
+
+    private InMemoryWarehouseStore store;
+    private WarehouseWriteBehind writeBehind;
+    private FakeTransactions transactions;
+
+    @BeforeEach
+    public void setUp() {
+        writeBehind = new WarehouseWriteBehind();
+        writeBehind.enabled = true;
+        transactions = new FakeTransactions();
+        store = new InMemoryWarehouseStore();
+        store.writeBehind = writeBehind;
+        store.transactionRegistry = transactions;
+        store.create(new Warehouse("MWH.001", "ZWOLLE-001", 40, 10, null, null));
+        store.create(new Warehouse("MWH.002", "AMSTERDAM-001", 50, 5, null, null));
+    }
+
+    @Test
+    public void shouldIndexWarehousesByBusinessUnitCodeAndLocation() {
+        store.create(new Warehouse("MWH.003", "AMSTERDAM-001", 30, 7, null, null));
+
+        assertEquals("ZWOLLE-001", store.findByBusinessUnitCode("MWH.001").getLocation());
+        assertEquals(2, store.findByLocation("AMSTERDAM-001").size());
+        assertEquals(new LocationAggregate("AMSTERDAM-001", 2, 80, 12), store.getLocationAggregate("AMSTERDAM-001"));
+        assertEquals(Set.of("MWH.002"), store.findActiveBusinessUnitCodes(List.of("MWH.002", "MWH.999")));
+    }
+
+    @Test
+    public void shouldMoveWarehouseBetweenLocationsOnUpdate() {
+        store.update(new Warehouse("MWH.001", "AMSTERDAM-001", 45, 10, null, null));
+
+        assertTrue(store.findByLocation("ZWOLLE-001").isEmpty());
+        assertEquals(LocationAggregate.empty("ZWOLLE-001"), store.getLocationAggregate("ZWOLLE-001"));
+        assertEquals(new LocationAggregate("AMSTERDAM-001", 2, 95, 15), store.getLocationAggregate("AMSTERDAM-001"));
+    }
+
+    @Test
+    public void shouldForgetRemovedWarehouses() {
+        store.remove(new Warehouse("MWH.001", null, null, null, null, null));
+
+        assertFalse(store.existsActiveByBusinessUnitCode("MWH.001"));
+        assertEquals(1, store.getAll().size());
+        WarehouseException exception = assertThrows(WarehouseException.class, () -> store.findByBusinessUnitCode("MWH.001"));
+        assertEquals(ErrorRule.WAREHOUSE_NOT_LOCATED, exception.getErrorRule());
+    }
+
+    @Test
+    public void shouldRejectWholeBatch_WhenABusinessUnitCodeIsTaken() {
+        List<Warehouse> batch = List.of(
+                new Warehouse("MWH.003", "TILBURG-001", 30, 7, null, null),
+                new Warehouse("MWH.001", "TILBURG-001", 30, 7, null, null));
+
+        WarehouseException exception = assertThrows(WarehouseException.class, () -> store.createAll(batch));
+
+        assertEquals(ErrorRule.CONCURRENT_MODIFICATION, exception.getErrorRule());
+        assertFalse(store.existsActiveByBusinessUnitCode("MWH.003"));
+    }
+
+    @Test
+    public void shouldNotShareStoredInstances() {
+        Warehouse found = store.findByBusinessUnitCode("MWH.001");
+        found.setStock(99);
+
+        assertNotSame(found, store.findByBusinessUnitCode("MWH.001"));
+        assertEquals(10, store.findByBusinessUnitCode("MWH.001").getStock());
+    }
+
+    @Test
+    public void shouldQueueChangesForWriteBehindInOrder() {
+        store.remove(new Warehouse("MWH.002", null, null, null, null, null));
+
+        assertEquals(3, writeBehind.pendingChanges());
+    }
+
+    @Test
+    public void shouldApplyLockedUpdatesTogether_OnlyWhenTheTransactionCommits() {
+        transactions.begin();
+        Warehouse source = store.findByBusinessUnitCodeForUpdate("MWH.001");
+        Warehouse target = store.findByBusinessUnitCodeForUpdate("MWH.002");
+        source.setStock(6);
+        target.setStock(9);
+        store.update(source);
+        store.update(target);
+
+        assertEquals(10, store.findByBusinessUnitCode("MWH.001").getStock());
+
+        transactions.end(Status.STATUS_COMMITTED);
+
+        assertEquals(6, store.findByBusinessUnitCode("MWH.001").getStock());
+        assertEquals(9, store.findByBusinessUnitCode("MWH.002").getStock());
+    }
+
+    @Test
+    public void shouldDropLockedUpdates_WhenTheTransactionRollsBack() {
+        transactions.begin();
+        Warehouse source = store.findByBusinessUnitCodeForUpdate("MWH.001");
+        source.setStock(6);
+        store.update(source);
+
+        transactions.end(Status.STATUS_ROLLEDBACK);
+
+        assertEquals(10, store.findByBusinessUnitCode("MWH.001").getStock());
+    }
+
+    @Test
+    public void shouldMakeOtherWritersWait_UntilTheLockingTransactionEnds() throws Exception {
+        transactions.begin();
+        store.findByBusinessUnitCodeForUpdate("MWH.001");
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(
+                () -> store.update(new Warehouse("MWH.001", "ZWOLLE-001", 40, 20, null, null)));
+
+        assertThrows(TimeoutException.class, () -> writer.get(100, TimeUnit.MILLISECONDS));
+        transactions.end(Status.STATUS_COMMITTED);
+        writer.get(5, TimeUnit.SECONDS);
+        assertEquals(20, store.findByBusinessUnitCode("MWH.001").getStock());
+    }
+
+    @Test
+    public void shouldReloadAWarehouseTheDatabaseRejected_OnceNothingNewerIsQueued() {
+        store.resync("MWH.001", new Warehouse("MWH.001", "ZWOLLE-001", 40, 3, null, null));
+
+        // the queued create of MWH.001 is newer than what the database holds
+        assertEquals(10, store.findByBusinessUnitCode("MWH.001").getStock());
+
+        writeBehind.enabled = false;
+        var fresh = new InMemoryWarehouseStore();
+        fresh.writeBehind = writeBehind;
+        fresh.transactionRegistry = transactions;
+        fresh.create(new Warehouse("MWH.003", "ZWOLLE-001", 40, 10, null, null));
+        fresh.resync("MWH.003", new Warehouse("MWH.003", "ZWOLLE-001", 40, 3, null, null));
+        fresh.resync("MWH.004", null);
+
+        assertEquals(3, fresh.findByBusinessUnitCode("MWH.003").getStock());
+        assertEquals(new LocationAggregate("ZWOLLE-001", 1, 40, 3), fresh.getLocationAggregate("ZWOLLE-001"));
+    }
+
+    // one transaction per thread, ended by the test
+    private static final class FakeTransactions implements TransactionSynchronizationRegistry {
+        private final ThreadLocal<Map<Object, Object>> resources = new ThreadLocal<>();
+        private final ThreadLocal<List<Synchronization>> synchronizations = new ThreadLocal<>();
+
+        void begin() {
+            resources.set(new HashMap<>());
+            synchronizations.set(new ArrayList<>());
+        }
+
+        void end(int status) {
+            synchronizations.get().forEach(synchronization -> synchronization.afterCompletion(status));
+            resources.remove();
+            synchronizations.remove();
+        }
+
+        @Override
+        public Object getTransactionKey() {
+            return resources.get();
+        }
+
+        @Override
+        public void putResource(Object key, Object value) {
+            resources.get().put(key, value);
+        }
+
+        @Override
+        public Object getResource(Object key) {
+            return resources.get().get(key);
+        }
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization synchronization) {
+            synchronizations.get().add(synchronization);
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return resources.get() != null ? Status.STATUS_ACTIVE : Status.STATUS_NO_TRANSACTION;
+        }
+
+        @Override
+        public void setRollbackOnly() {}
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
+    }
+}
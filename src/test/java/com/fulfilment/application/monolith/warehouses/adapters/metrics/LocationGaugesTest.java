@@ -0,0 +1,58 @@
+package com.fulfilment.application.monolith.warehouses.adapters.metrics;
+
+import com.fulfilment.application.monolith.location.LocationCatalogue;
+import com.fulfilment.application.monolith.location.LocationGateway;
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LocationGaugesTest {
+
+    private SimpleMeterRegistry registry;
+    private LocationGateway locationGateway;
+    private LocationGauges gauges;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        locationGateway = new LocationGateway();
+        locationGateway.replaceCatalogue(LocationCatalogue.of(List.of(
+                new Location("ZWOLLE-001", 1, 40), new Location("TILBURG-001", 1, 40))));
+
+        WarehouseStore warehouseStore = mock(WarehouseStore.class);
+        when(warehouseStore.getLocationAggregate(anyString())).thenAnswer(invocation -> LocationAggregate.empty(invocation.getArgument(0)));
+        when(warehouseStore.getLocationAggregate("ZWOLLE-001")).thenReturn(new LocationAggregate("ZWOLLE-001", 2, 40, 10));
+
+        gauges = new LocationGauges(locationGateway, warehouseStore, registry);
+    }
+
+    @Test
+    public void shouldPublishActiveWarehousesAndUtilisationPerLocation() {
+        gauges.refresh();
+
+        assertEquals(2, registry.get("warehouse.location.active").tag("location", "ZWOLLE-001").gauge().value());
+        assertEquals(0.25, registry.get("warehouse.location.capacity.utilisation").tag("location", "ZWOLLE-001").gauge().value());
+        assertEquals(0, registry.get("warehouse.location.capacity.utilisation").tag("location", "TILBURG-001").gauge().value());
+    }
+
+    @Test
+    public void shouldDropLocationsRemovedFromTheCatalogue() {
+        gauges.refresh();
+        locationGateway.replaceCatalogue(LocationCatalogue.of(List.of(new Location("ZWOLLE-001", 1, 40))));
+
+        gauges.refresh();
+
+        assertNull(registry.find("warehouse.location.active").tag("location", "TILBURG-001").gauge());
+    }
+}
@@ -0,0 +1,56 @@
+package com.fulfilment.application.monolith.warehouses.adapters.metrics;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.interceptor.InvocationContext;
+import jakarta.ws.rs.WebApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RejectionCountingInterceptorTest {
+
+    private SimpleMeterRegistry registry;
+    private RejectionCountingInterceptor interceptor;
+    private InvocationContext context;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        interceptor = new RejectionCountingInterceptor(registry);
+        context = mock(InvocationContext.class);
+    }
+
+    @Test
+    public void shouldCountRuleRejectionsPerRule() throws Exception {
+        when(context.proceed()).thenThrow(new WarehouseException(ErrorRule.BUSINESS_UNIT_CODE_TAKEN));
+
+        assertThrows(WarehouseException.class, () -> interceptor.count(context));
+
+        assertEquals(1.0, registry.get("warehouse.rejections").tag("rule", "BUSINESS_UNIT_CODE_TAKEN").counter().count());
+    }
+
+    @Test
+    public void shouldCountOtherClientErrorsPerStatus() throws Exception {
+        when(context.proceed()).thenThrow(new WebApplicationException("Request body is not provided", 400));
+
+        assertThrows(WebApplicationException.class, () -> interceptor.count(context));
+
+        assertEquals(1.0, registry.get("warehouse.rejections").tags("rule", "NONE", "status", "400").counter().count());
+    }
+
+    @Test
+    public void shouldNotCountServerErrors() throws Exception {
+        when(context.proceed()).thenThrow(new WebApplicationException(503));
+
+        assertThrows(WebApplicationException.class, () -> interceptor.count(context));
+
+        assertNull(registry.find("warehouse.rejections").tag("rule", "NONE").counter());
+    }
+}
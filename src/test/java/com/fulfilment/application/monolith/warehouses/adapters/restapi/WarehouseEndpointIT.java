@@ -2,6 +2,7 @@ package com.fulfilment.application.monolith.warehouses.adapters.restapi;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.core.IsNot.not;
 
 import io.quarkus.test.junit.QuarkusIntegrationTest;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,142 @@ public class WarehouseEndpointIT {
         .body(containsString("MWH.001"), containsString("MWH.012"), containsString("MWH.023"));
   }
 
+  @Test
+  public void testPaginatedListWarehouses() {
+
+    final String path = "warehouse";
+
+    // First page of two, ordered by id:
+    given()
+        .queryParam("limit", 2)
+        .when()
+        .get(path)
+        .then()
+        .statusCode(200)
+        .body(containsString("MWH.001"), containsString("MWH.012"), not(containsString("MWH.023")));
+
+    // Next page starts after the last id of the previous one:
+    given()
+        .queryParam("after", 2)
+        .queryParam("limit", 2)
+        .when()
+        .get(path)
+        .then()
+        .statusCode(200)
+        .body(not(containsString("MWH.001")), not(containsString("MWH.012")), containsString("MWH.023"));
+  }
+
+  @Test
+  public void testSearchWarehouses() {
+
+    final String path = "warehouse/search";
+
+    given()
+        .queryParam("location", "AMSTERDAM-001")
+        .queryParam("archived", false)
+        .when()
+        .get(path)
+        .then()
+        .statusCode(200)
+        .body(not(containsString("MWH.001")), containsString("MWH.012"), not(containsString("MWH.023")));
+
+    given()
+        .queryParam("minStock", 10)
+        .queryParam("maxCapacity", 100)
+        .when()
+        .get(path)
+        .then()
+        .statusCode(200)
+        .body(containsString("MWH.001"), not(containsString("MWH.012")), containsString("MWH.023"));
+  }
+
+  @Test
+  public void testStreamWarehouses() {
+
+    given()
+        .when()
+        .get("warehouse/stream")
+        .then()
+        .statusCode(200)
+        .body(containsString("MWH.001"), containsString("MWH.012"), containsString("MWH.023"));
+  }
+
+  @Test
+  public void testBusinessUnitCodeTimeline() {
+
+    // Only the active unit has held MWH.023 so far:
+    given()
+        .when()
+        .get("warehouse/history/MWH.023")
+        .then()
+        .statusCode(200)
+        .body(containsString("TILBURG-001"), not(containsString("archivedAt")));
+
+    // An unknown code has an empty timeline:
+    given().when().get("warehouse/history/MWH.999").then().statusCode(200).body(containsString("[]"));
+  }
+
+  @Test
+  public void testStockTransfer() {
+
+    // Move stock there and back again, so the other tests see the initial levels:
+    given().contentType("application/json")
+        .body("{\"sourceBusinessUnitCode\":\"MWH.001\",\"targetBusinessUnitCode\":\"MWH.012\",\"quantity\":5}")
+        .when().post("warehouse/transfer")
+        .then().statusCode(204);
+    given().contentType("application/json")
+        .body("{\"sourceBusinessUnitCode\":\"MWH.012\",\"targetBusinessUnitCode\":\"MWH.001\",\"quantity\":5}")
+        .when().post("warehouse/transfer")
+        .then().statusCode(204);
+
+    // MWH.023 has room for 3 more units only:
+    given().contentType("application/json")
+        .body("{\"sourceBusinessUnitCode\":\"MWH.001\",\"targetBusinessUnitCode\":\"MWH.023\",\"quantity\":4}")
+        .when().post("warehouse/transfer")
+        .then().statusCode(409).body(containsString("TRANSFEREXCEEDSWAREHOUSECAPACITY"));
+  }
+
+  @Test
+  public void testChangeFeed() {
+
+    // The transfer writes two updates to the feed:
+    given().contentType("application/json")
+        .body("{\"sourceBusinessUnitCode\":\"MWH.012\",\"targetBusinessUnitCode\":\"MWH.001\",\"quantity\":1}")
+        .when().post("warehouse/transfer")
+        .then().statusCode(204);
+    given().contentType("application/json")
+        .body("{\"sourceBusinessUnitCode\":\"MWH.001\",\"targetBusinessUnitCode\":\"MWH.012\",\"quantity\":1}")
+        .when().post("warehouse/transfer")
+        .then().statusCode(204);
+
+    given()
+        .when()
+        .get("warehouse/changes?after=0&wait=0")
+        .then()
+        .statusCode(200)
+        .body(containsString("UPDATED"), containsString("MWH.012"));
+
+    given().when().get("warehouse/changes?limit=0").then().statusCode(400);
+  }
+
+  @Test
+  public void testReactiveWarehouseReads() {
+
+    given()
+        .when()
+        .get("reactive/warehouse/MWH.012")
+        .then()
+        .statusCode(200)
+        .body(containsString("AMSTERDAM-001"));
+
+    given()
+        .when()
+        .get("reactive/warehouse")
+        .then()
+        .statusCode(200)
+        .body(containsString("MWH.001"), containsString("MWH.023"));
+  }
+
   @Test
   public void testSimpleCheckingArchivingWarehouses() {
 
@@ -0,0 +1,46 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class WarehouseExceptionMapperTest {
+
+    private final WarehouseExceptionMapper mapper = new WarehouseExceptionMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void shouldAnswerWithTheRuleStatusAndDescription() throws Exception {
+        Response response = mapper.toResponse(new WarehouseException(ErrorRule.LOCATION_CAPACITY_EXCEEDED));
+
+        assertEquals(409, response.getStatus());
+        JsonNode body = objectMapper.readTree((byte[]) response.getEntity());
+        assertEquals(WarehouseException.class.getName(), body.get("exceptionType").asText());
+        assertEquals(409, body.get("code").asInt());
+        assertEquals("WAREHOUSELOCATIONEXCEEDEDMAXCAPACITY", body.get("errorCode").asText());
+        assertEquals(ErrorRule.LOCATION_CAPACITY_EXCEEDED.getDescription(), body.get("error").asText());
+    }
+
+    @Test
+    public void shouldReuseThePreEncodedBody_ForTheDefaultMessage() {
+        Object first = mapper.toResponse(new WarehouseException(ErrorRule.MISSING_FIELD)).getEntity();
+        Object second = mapper.toResponse(new WarehouseException(ErrorRule.MISSING_FIELD)).getEntity();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void shouldEscapeCustomMessages() throws Exception {
+        Response response = mapper.toResponse(new WarehouseException(ErrorRule.MISSING_FIELD, "Field \"location\" was not set\n"));
+
+        assertEquals(400, response.getStatus());
+        JsonNode body = objectMapper.readTree((byte[]) response.getEntity());
+        assertEquals("Field \"location\" was not set\n", body.get("error").asText());
+    }
+}
@@ -0,0 +1,77 @@
+package com.fulfilment.application.monolith.warehouses.adapters.restapi;
+
+import com.fulfilment.application.monolith.mapper.WarehouseMapper;
+import com.fulfilment.application.monolith.warehouses.adapters.database.DbWarehouse;
+import com.fulfilment.application.monolith.warehouses.adapters.database.WarehouseRepository;
+import com.fulfilment.application.monolith.warehouses.adapters.memory.WarehouseWriteBehind;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import com.fulfilment.application.monolith.warehouses.domain.usecases.ArchiveWarehouseUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WarehouseResourceImplTest {
+
+    private WarehouseRepository warehouseRepository;
+    private WarehouseStore warehouseStore;
+    private WarehouseWriteBehind writeBehind;
+    private ArchiveWarehouseUseCase archiveWarehouseUseCase;
+    private WarehouseResourceImpl resource;
+
+    @BeforeEach
+    public void setUp() {
+        warehouseRepository = mock(WarehouseRepository.class);
+        warehouseStore = mock(WarehouseStore.class);
+        writeBehind = mock(WarehouseWriteBehind.class);
+        archiveWarehouseUseCase = mock(ArchiveWarehouseUseCase.class);
+        resource = new WarehouseResourceImpl(warehouseRepository, mock(WarehouseMapper.class), null, null,
+                archiveWarehouseUseCase, null, warehouseStore, writeBehind);
+        when(warehouseRepository.findById(1L))
+                .thenReturn(new DbWarehouse(1L, "MWH.001", "ZWOLLE-001", 100, 10, null, null, 0L));
+    }
+
+    @Test
+    public void shouldServeSingleUnitFromTheSelectedStore() {
+        // the store has accepted a stock change the database has not been written yet
+        when(warehouseStore.findByBusinessUnitCode("MWH.001"))
+                .thenReturn(new Warehouse("MWH.001", "ZWOLLE-001", 100, 25, null, null));
+
+        assertEquals(25, resource.getAWarehouseUnitByID("1").getStock());
+    }
+
+    @Test
+    public void shouldArchiveTheStateOfTheSelectedStore() {
+        Warehouse stored = new Warehouse("MWH.001", "ZWOLLE-001", 100, 25, null, null);
+        when(warehouseStore.findByBusinessUnitCode("MWH.001")).thenReturn(stored);
+
+        resource.archiveAWarehouseUnitByID("1");
+
+        verify(archiveWarehouseUseCase).archive(stored);
+    }
+
+    @Test
+    public void shouldWriteQueuedChangesBeforeReadingTheDatabase() {
+        when(warehouseRepository.findPage(any(), anyInt())).thenReturn(List.of());
+        when(warehouseRepository.findTimeline("MWH.001")).thenReturn(List.of());
+
+        resource.listAllWarehousesUnits(null, null);
+        resource.getTheTimelineOfABusinessUnitCode("MWH.001");
+
+        InOrder order = inOrder(writeBehind, warehouseRepository);
+        order.verify(writeBehind).awaitWritten();
+        order.verify(warehouseRepository).findPage(null, WarehouseResourceImpl.DEFAULT_PAGE_SIZE);
+        order.verify(writeBehind).awaitWritten();
+        order.verify(warehouseRepository).findTimeline("MWH.001");
+    }
+}
@@ -0,0 +1,85 @@
+package com.fulfilment.application.monolith.warehouses.domain.usecases;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.models.WarehouseImportResult;
+import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import com.fulfilment.application.monolith.warehouses.domain.validator.BuCodeValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.CapacityValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.GenerateWarehouseValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.LocationValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseCapacityValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkCreateWarehouseUseCaseTest {
+
+    @Mock
+    private WarehouseStore warehouseStore;
+
+    @Mock
+    private LocationResolver locationResolver;
+
+    private BulkCreateWarehouseUseCase bulkCreateWarehouseUseCase;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        var validators = new GenerateWarehouseValidator().produceCreateWarehouseValidators(
+                new LocationValidator(), new CapacityValidator(), new WarehouseCapacityValidator(), new BuCodeValidator());
+        bulkCreateWarehouseUseCase = new BulkCreateWarehouseUseCase(warehouseStore, locationResolver, validators);
+
+        when(locationResolver.resolveByIdentifier("AMSTERDAM-002")).thenReturn(new Location("AMSTERDAM-002", 2, 75));
+        when(warehouseStore.getLocationAggregate("AMSTERDAM-002")).thenReturn(new LocationAggregate("AMSTERDAM-002", 2, 40, 10));
+    }
+
+    @Test
+    @DisplayName("Create the valid warehouses of a batch and report the rejected ones")
+    public void testBulkCreationReportsEveryItem() {
+        Warehouse existing = new Warehouse("MWH.001", "AMSTERDAM-002", 10, 5, null, null);
+        Warehouse first = new Warehouse("MWH.200", "AMSTERDAM-002", 10, 5, null, null);
+        Warehouse duplicate = new Warehouse("MWH.200", "AMSTERDAM-002", 10, 5, null, null);
+        Warehouse missingStock = new Warehouse("MWH.201", "AMSTERDAM-002", 10, null, null, null);
+        when(warehouseStore.findActiveBusinessUnitCodes(anyCollection())).thenReturn(Set.of("MWH.001"));
+
+        List<WarehouseImportResult> results = bulkCreateWarehouseUseCase.createAll(List.of(existing, first, duplicate, missingStock));
+
+        assertEquals(4, results.size());
+        assertEquals(409, results.get(0).getStatus());
+        assertTrue(results.get(1).isCreated());
+        assertEquals(409, results.get(2).getStatus());
+        assertEquals(400, results.get(3).getStatus());
+        verify(warehouseStore, times(1)).createAll(List.of(first));
+    }
+
+    @Test
+    @DisplayName("Count warehouses accepted earlier in the batch against the location limit")
+    public void testBulkCreationAccumulatesLocationTotals() {
+        Warehouse first = new Warehouse("MWH.300", "AMSTERDAM-002", 10, 5, null, null);
+        Warehouse second = new Warehouse("MWH.301", "AMSTERDAM-002", 10, 5, null, null);
+        when(warehouseStore.findActiveBusinessUnitCodes(anyCollection())).thenReturn(Set.of());
+
+        List<WarehouseImportResult> results = bulkCreateWarehouseUseCase.createAll(List.of(first, second));
+
+        assertTrue(results.get(0).isCreated());
+        assertFalse(results.get(1).isCreated());
+        verify(warehouseStore, times(1)).getLocationAggregate("AMSTERDAM-002");
+        verify(warehouseStore, times(1)).createAll(List.of(first));
+    }
+}
@@ -1,3 +1,104 @@
 package com.fulfilment.application.monolith.warehouses.domain.usecases;
 
-public class CreateWarehouseUseCaseTest {}
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import com.fulfilment.application.monolith.warehouses.domain.validator.BuCodeValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.CapacityValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.GenerateWarehouseValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.LocationValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseCapacityValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CreateWarehouseUseCaseTest {
+
+    @Mock
+    private WarehouseStore warehouseStore;
+
+    @Mock
+    private LocationResolver locationResolver;
+
+    private CreateWarehouseUseCase createWarehouseUseCase;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        var validators = new GenerateWarehouseValidator().produceCreateWarehouseValidators(
+                new LocationValidator(), new CapacityValidator(), new WarehouseCapacityValidator(), new BuCodeValidator());
+        createWarehouseUseCase = new CreateWarehouseUseCase(warehouseStore, locationResolver, validators, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Resolve the location and query the store only once per create")
+    public void testWarehouseCreationLooksUpEachDependencyOnce() {
+        Warehouse warehouse = new Warehouse("MWH.100", "AMSTERDAM-001", 50, 10, null, null);
+        when(locationResolver.resolveByIdentifier("AMSTERDAM-001")).thenReturn(new Location("AMSTERDAM-001", 5, 100));
+        when(warehouseStore.getLocationAggregate("AMSTERDAM-001")).thenReturn(new LocationAggregate("AMSTERDAM-001", 1, 50, 5));
+        when(warehouseStore.existsActiveByBusinessUnitCode("MWH.100")).thenReturn(false);
+
+        createWarehouseUseCase.create(warehouse);
+
+        verify(locationResolver, times(1)).resolveByIdentifier("AMSTERDAM-001");
+        verify(warehouseStore, times(1)).getLocationAggregate("AMSTERDAM-001");
+        verify(warehouseStore, times(1)).existsActiveByBusinessUnitCode("MWH.100");
+        verify(warehouseStore, times(1)).create(warehouse);
+    }
+
+    @Test
+    @DisplayName("Reject an oversized warehouse before querying the store")
+    public void throwExceptionWhenCapacityExceedsLocationBeforeStoreLookup() {
+        Warehouse warehouse = new Warehouse("MWH.101", "ZWOLLE-001", 500, 10, null, null);
+        when(locationResolver.resolveByIdentifier("ZWOLLE-001")).thenReturn(new Location("ZWOLLE-001", 1, 40));
+
+        assertThrows(WarehouseException.class, () -> createWarehouseUseCase.create(warehouse));
+
+        verify(warehouseStore, never()).existsActiveByBusinessUnitCode(any());
+        verify(warehouseStore, never()).create(any());
+    }
+
+    @Test
+    @DisplayName("Validate again after losing a race for the business unit code and reject the taken code")
+    public void revalidateAfterConcurrentCreate() {
+        Warehouse warehouse = new Warehouse("MWH.102", "AMSTERDAM-001", 50, 10, null, null);
+        when(locationResolver.resolveByIdentifier("AMSTERDAM-001")).thenReturn(new Location("AMSTERDAM-001", 5, 100));
+        when(warehouseStore.getLocationAggregate("AMSTERDAM-001")).thenReturn(new LocationAggregate("AMSTERDAM-001", 1, 50, 5));
+        when(warehouseStore.existsActiveByBusinessUnitCode("MWH.102")).thenReturn(false, true);
+        int[] attempts = {0};
+        var useCase = new CreateWarehouseUseCase(warehouseStore, locationResolver,
+                new GenerateWarehouseValidator().produceCreateWarehouseValidators(
+                        new LocationValidator(), new CapacityValidator(), new WarehouseCapacityValidator(), new BuCodeValidator()),
+                work -> {
+                    work.run();
+                    if (attempts[0]++ == 0) {
+                        throw new WarehouseException(ErrorRule.CONCURRENT_MODIFICATION);
+                    }
+                });
+
+        WarehouseException e = assertThrows(WarehouseException.class, () -> useCase.create(warehouse));
+
+        assertEquals(ErrorRule.BUSINESS_UNIT_CODE_TAKEN, e.getErrorRule());
+        verify(warehouseStore, times(1)).create(warehouse);
+    }
+
+    @Test
+    @DisplayName("Throw exception when warehouse is null")
+    public void throwExceptionWhenWarehouseIsNull() {
+        assertThrows(IllegalArgumentException.class, () -> createWarehouseUseCase.create(null));
+    }
+}
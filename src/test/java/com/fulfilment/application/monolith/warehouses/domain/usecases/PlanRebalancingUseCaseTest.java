@@ -0,0 +1,78 @@
+package com.fulfilment.application.monolith.warehouses.domain.usecases;
+
+import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationRebalancePlan;
+import com.fulfilment.application.monolith.warehouses.domain.models.StockMove;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class PlanRebalancingUseCaseTest {
+
+    @Mock
+    private WarehouseStore warehouseStore;
+
+    @Mock
+    private LocationResolver locationResolver;
+
+    private PlanRebalancingUseCase planRebalancingUseCase;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        planRebalancingUseCase = new PlanRebalancingUseCase(warehouseStore, locationResolver, 0.9, 2);
+        when(locationResolver.findByIdentifier("AMSTERDAM-001")).thenReturn(new Location("AMSTERDAM-001", 5, 200));
+        when(locationResolver.findByIdentifier("ZWOLLE-001")).thenReturn(new Location("ZWOLLE-001", 1, 40));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        planRebalancingUseCase.shutdown();
+    }
+
+    @Test
+    public void shouldMoveStockTowardsTheSameFillRate() {
+        when(warehouseStore.getAll()).thenReturn(List.of(
+                warehouse("MWH.001", "AMSTERDAM-001", 100, 80),
+                warehouse("MWH.002", "AMSTERDAM-001", 50, 0),
+                warehouse("MWH.003", "AMSTERDAM-001", 50, 20)));
+
+        LocationRebalancePlan plan = planRebalancingUseCase.plan().get(0);
+
+        // 100 units over 200 capacity: every unit should be half full
+        assertEquals(List.of(new StockMove("MWH.001", "MWH.002", 25), new StockMove("MWH.001", "MWH.003", 5)), plan.getMoves());
+        assertEquals(0.5, plan.getFillRate());
+        assertEquals(1.0, plan.getCapacityUsage());
+        assertTrue(plan.isNearSaturation());
+    }
+
+    @Test
+    public void shouldPlanEveryLocationSeparately_OrderedByLocation() {
+        when(warehouseStore.getAll()).thenReturn(List.of(
+                warehouse("MWH.010", "ZWOLLE-001", 20, 5),
+                warehouse("MWH.001", "AMSTERDAM-001", 100, 50)));
+
+        List<LocationRebalancePlan> plans = planRebalancingUseCase.plan();
+
+        assertEquals(List.of("AMSTERDAM-001", "ZWOLLE-001"), plans.stream().map(LocationRebalancePlan::getLocation).toList());
+        assertTrue(plans.get(1).getMoves().isEmpty());
+        assertFalse(plans.get(1).isNearSaturation());
+    }
+
+    private static Warehouse warehouse(String buCode, String location, int capacity, int stock) {
+        return new Warehouse(buCode, location, capacity, stock, LocalDateTime.now(), null);
+    }
+}
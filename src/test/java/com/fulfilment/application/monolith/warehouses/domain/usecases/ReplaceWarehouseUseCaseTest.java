@@ -1,19 +1,22 @@
 package com.fulfilment.application.monolith.warehouses.domain.usecases;
 
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
 import com.fulfilment.application.monolith.exceptions.WarehouseException;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 import com.fulfilment.application.monolith.warehouses.domain.ports.ArchiveWarehouseOperation;
+import com.fulfilment.application.monolith.warehouses.domain.ports.TransactionRunner;
 import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,12 +31,12 @@ public class ReplaceWarehouseUseCaseTest {
     @Mock
     private ArchiveWarehouseOperation archiveWarehouseOperation;
 
-    @InjectMocks
     private ReplaceWarehouseUseCase replaceWarehouseUseCase;
 
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
+        replaceWarehouseUseCase = new ReplaceWarehouseUseCase(warehouseStore, archiveWarehouseOperation, Runnable::run);
     }
 
 
@@ -93,5 +96,38 @@ public class ReplaceWarehouseUseCaseTest {
         assertThrows(WarehouseException.class, () -> replaceWarehouseUseCase.replace(newWarehouse));
     }
 
+    @Test
+    @DisplayName("Retry the replacement when a concurrent change wins the race")
+    public void testWarehouseReplacementIsRetriedOnConflict() {
+        Warehouse existingWarehouse = new Warehouse("WH105", "EINDHOVEN001", 200, 80, LocalDateTime.now(), null);
+        Warehouse newWarehouse = new Warehouse("WH105", "EINDHOVEN001", 250, 80, null, null);
+        when(warehouseStore.findByBusinessUnitCode("WH105")).thenReturn(existingWarehouse);
+
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionRunner conflictingOnce = work -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new WarehouseException(ErrorRule.CONCURRENT_MODIFICATION);
+            }
+            work.run();
+        };
+
+        new ReplaceWarehouseUseCase(warehouseStore, archiveWarehouseOperation, conflictingOnce).replace(newWarehouse);
+
+        verify(warehouseStore, times(1)).create(newWarehouse);
+        assertEquals(2, attempts.get());
+    }
 
+    @Test
+    @DisplayName("Give up with a conflict after the maximum number of attempts")
+    public void throwExceptionWhenConflictPersists() {
+        TransactionRunner alwaysConflicting = work -> {
+            throw new WarehouseException(ErrorRule.CONCURRENT_MODIFICATION);
+        };
+        Warehouse newWarehouse = new Warehouse("WH106", "EINDHOVEN001", 250, 80, null, null);
+
+        WarehouseException exception = assertThrows(WarehouseException.class,
+                () -> new ReplaceWarehouseUseCase(warehouseStore, archiveWarehouseOperation, alwaysConflicting).replace(newWarehouse));
+
+        assertEquals(ErrorRule.CONCURRENT_MODIFICATION, exception.getErrorRule());
+    }
 }
@@ -0,0 +1,105 @@
+package com.fulfilment.application.monolith.warehouses.domain.usecases;
+
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
+import com.fulfilment.application.monolith.exceptions.WarehouseException;
+import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
+import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TransferStockUseCaseTest {
+
+    @Mock
+    private WarehouseStore warehouseStore;
+
+    private TransferStockUseCase transferStockUseCase;
+
+    private Warehouse first;
+    private Warehouse second;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        transferStockUseCase = new TransferStockUseCase(warehouseStore, Runnable::run);
+
+        first = new Warehouse("MWH.001", "ZWOLLE-001", 100, 40, LocalDateTime.now(), null);
+        second = new Warehouse("MWH.002", "ZWOLLE-001", 50, 30, LocalDateTime.now(), null);
+        when(warehouseStore.findByBusinessUnitCodeForUpdate("MWH.001")).thenReturn(first);
+        when(warehouseStore.findByBusinessUnitCodeForUpdate("MWH.002")).thenReturn(second);
+    }
+
+    @Test
+    @DisplayName("Moves the stock and updates both warehouses")
+    public void shouldMoveStock() {
+        transferStockUseCase.transfer("MWH.002", "MWH.001", 10);
+
+        assertEquals(20, second.getStock());
+        assertEquals(50, first.getStock());
+        verify(warehouseStore).update(first);
+        verify(warehouseStore).update(second);
+    }
+
+    @Test
+    @DisplayName("Locks the warehouses in business unit code order, whatever the direction")
+    public void shouldLockInBusinessUnitCodeOrder() {
+        transferStockUseCase.transfer("MWH.002", "MWH.001", 10);
+        transferStockUseCase.transfer("MWH.001", "MWH.002", 10);
+
+        InOrder locks = inOrder(warehouseStore);
+        locks.verify(warehouseStore).findByBusinessUnitCodeForUpdate("MWH.001");
+        locks.verify(warehouseStore).findByBusinessUnitCodeForUpdate("MWH.002");
+        locks.verify(warehouseStore).findByBusinessUnitCodeForUpdate("MWH.001");
+        locks.verify(warehouseStore).findByBusinessUnitCodeForUpdate("MWH.002");
+    }
+
+    @Test
+    @DisplayName("Rejects a transfer larger than the source stock")
+    public void shouldRejectInsufficientStock() {
+        var exception = assertThrows(WarehouseException.class, () -> transferStockUseCase.transfer("MWH.002", "MWH.001", 31));
+
+        assertEquals(ErrorRule.INSUFFICIENT_WAREHOUSE_STOCK, exception.getErrorRule());
+        verify(warehouseStore, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("Rejects a transfer that does not fit in the target")
+    public void shouldRejectExceededCapacity() {
+        var exception = assertThrows(WarehouseException.class, () -> transferStockUseCase.transfer("MWH.001", "MWH.002", 21));
+
+        assertEquals(ErrorRule.TRANSFER_EXCEEDS_WAREHOUSE_CAPACITY, exception.getErrorRule());
+        verify(warehouseStore, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("Rejects a transfer to the same warehouse")
+    public void shouldRejectTransferToItself() {
+        var exception = assertThrows(WarehouseException.class, () -> transferStockUseCase.transfer("MWH.001", "MWH.001", 1));
+
+        assertEquals(ErrorRule.INVALID_STOCK_TRANSFER, exception.getErrorRule());
+    }
+
+    @Test
+    @DisplayName("Rejects a transfer without a source or target warehouse")
+    public void shouldRejectMissingBusinessUnitCodes() {
+        var missingTarget = assertThrows(WarehouseException.class, () -> transferStockUseCase.transfer("MWH.001", null, 10));
+        var blankSource = assertThrows(WarehouseException.class, () -> transferStockUseCase.transfer(" ", "MWH.001", 10));
+
+        assertEquals(ErrorRule.MISSING_FIELD, missingTarget.getErrorRule());
+        assertEquals(ErrorRule.MISSING_FIELD, blankSource.getErrorRule());
+        verify(warehouseStore, never()).findByBusinessUnitCodeForUpdate(any());
+    }
+}
@@ -1,16 +1,18 @@
 package com.fulfilment.application.monolith.warehouses.domain.usecases.validators;
 import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
 import com.fulfilment.application.monolith.warehouses.domain.validator.BuCodeValidator;
-import jakarta.ws.rs.WebApplicationException;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseValidationContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import com.fulfilment.application.monolith.exceptions.ErrorRule;
 import com.fulfilment.application.monolith.exceptions.WarehouseException;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -25,19 +27,32 @@ public class BuCodeValidatorTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        validator = new BuCodeValidator(warehouseStore);
+        validator = new BuCodeValidator();
     }
 
     @Test
-    public void shouldThrowWebApplicationException_WhenWarehouseExists() {
+    public void shouldThrowWarehouseException_WhenWarehouseExists() {
         // Arrange
         Warehouse warehouse = new Warehouse();
         warehouse.setBusinessUnitCode("001");
 
-        when(warehouseStore.findByBusinessUnitCode(warehouse.getBusinessUnitCode())).thenReturn(new Warehouse());
+        when(warehouseStore.existsActiveByBusinessUnitCode(warehouse.getBusinessUnitCode())).thenReturn(true);
 
         // Act & Assert
-        assertThrows(WebApplicationException.class, () -> validator.validate(warehouse));
+        WarehouseException exception = assertThrows(WarehouseException.class, () -> validator.validate(new WarehouseValidationContext(warehouse, null, warehouseStore)));
+        assertEquals(ErrorRule.BUSINESS_UNIT_CODE_TAKEN, exception.getErrorRule());
+    }
+
+    @Test
+    public void shouldReturnTrue_WhenWarehouseDoesNotExist() {
+        // Arrange
+        Warehouse warehouse = new Warehouse();
+        warehouse.setBusinessUnitCode("002");
+
+        when(warehouseStore.existsActiveByBusinessUnitCode(warehouse.getBusinessUnitCode())).thenReturn(false);
+
+        // Act & Assert
+        assertTrue(validator.validate(new WarehouseValidationContext(warehouse, null, warehouseStore)));
     }
 
 
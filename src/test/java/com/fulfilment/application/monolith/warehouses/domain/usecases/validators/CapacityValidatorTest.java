@@ -4,6 +4,7 @@ import com.fulfilment.application.monolith.warehouses.domain.models.Location;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
 import com.fulfilment.application.monolith.warehouses.domain.validator.CapacityValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseValidationContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -24,7 +25,7 @@ public class CapacityValidatorTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        validator = new CapacityValidator(locationResolver);
+        validator = new CapacityValidator();
     }
 
     @Test
@@ -40,7 +41,7 @@ public class CapacityValidatorTest {
         when(locationResolver.resolveByIdentifier(warehouse.getLocation())).thenReturn(location);
 
 
-        boolean result = validator.validate(warehouse);
+        boolean result = validator.validate(new WarehouseValidationContext(warehouse, locationResolver, null));
 
         assertTrue(result);
     }
@@ -58,6 +59,6 @@ public class CapacityValidatorTest {
         when(locationResolver.resolveByIdentifier(warehouse.getLocation())).thenReturn(location);
 
 
-        assertThrows(WarehouseException.class, () -> validator.validate(warehouse));
+        assertThrows(WarehouseException.class, () -> validator.validate(new WarehouseValidationContext(warehouse, locationResolver, null)));
     }
 }
@@ -1,10 +1,12 @@
 package com.fulfilment.application.monolith.warehouses.domain.usecases.validators;
 import com.fulfilment.application.monolith.exceptions.WarehouseException;
 import com.fulfilment.application.monolith.warehouses.domain.models.Location;
+import com.fulfilment.application.monolith.warehouses.domain.models.LocationAggregate;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
 import com.fulfilment.application.monolith.warehouses.domain.ports.WarehouseStore;
 import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseCapacityValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseValidationContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -30,7 +32,7 @@ public class FeasibilityValidatorTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        validator = new WarehouseCapacityValidator(locationResolver, warehouseStore);
+        validator = new WarehouseCapacityValidator();
     }
 
     @Test
@@ -43,12 +45,26 @@ public class FeasibilityValidatorTest {
         location.setMaxNumberOfWarehouses(2);
 
         when(locationResolver.resolveByIdentifier(warehouse.getLocation())).thenReturn(location);
-        when(warehouseStore.getAll()).thenReturn(Collections.emptyList());
+        when(warehouseStore.getLocationAggregate(location.getIdentification())).thenReturn(LocationAggregate.empty(location.getIdentification()));
 
-        boolean result = validator.validate(warehouse);
+        boolean result = validator.validate(new WarehouseValidationContext(warehouse, locationResolver, warehouseStore));
         assertTrue(result);
     }
 
+    @Test
+    public void shouldThrowException_WhenLocationAlreadyHoldsTooManyWarehouses() {
+
+        Warehouse warehouse = new Warehouse();
+        warehouse.setLocation("AMSTERDAM");
+
+        Location location = new Location("AMSTERDAM", 2, 100);
+
+        when(locationResolver.resolveByIdentifier(warehouse.getLocation())).thenReturn(location);
+        when(warehouseStore.getLocationAggregate("AMSTERDAM")).thenReturn(new LocationAggregate("AMSTERDAM", 3, 90, 10));
+
+        assertThrows(WarehouseException.class, () -> validator.validate(new WarehouseValidationContext(warehouse, locationResolver, warehouseStore)));
+    }
+
 
 
 }
@@ -4,6 +4,7 @@ import com.fulfilment.application.monolith.warehouses.domain.models.Location;
 import com.fulfilment.application.monolith.warehouses.domain.models.Warehouse;
 import com.fulfilment.application.monolith.warehouses.domain.ports.LocationResolver;
 import com.fulfilment.application.monolith.warehouses.domain.validator.LocationValidator;
+import com.fulfilment.application.monolith.warehouses.domain.validator.WarehouseValidationContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -22,7 +23,7 @@ public class LocationValidatorTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        validator = new LocationValidator(locationResolver);
+        validator = new LocationValidator();
     }
 
     @Test
@@ -34,7 +35,7 @@ public class LocationValidatorTest {
         when(locationResolver.resolveByIdentifier(warehouse.getLocation())).thenReturn(new Location());
 
         // Act
-        boolean result = validator.validate(warehouse);
+        boolean result = validator.validate(new WarehouseValidationContext(warehouse, locationResolver, null));
 
         // Assert
         assertTrue(result);